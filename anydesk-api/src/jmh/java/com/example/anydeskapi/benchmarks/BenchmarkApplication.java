@@ -0,0 +1,90 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.AnydeskApiApplication;
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentPairDto;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.TaskRequestDto;
+import com.example.anydeskapi.dtos.UserRequestDto;
+import com.example.anydeskapi.services.interfaces.AssignmentService;
+import com.example.anydeskapi.services.interfaces.TaskService;
+import com.example.anydeskapi.services.interfaces.UserService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class BenchmarkApplication {
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.sql.init.mode=never",
+            "--anydesk.reactive.url=r2dbc:h2:mem:///" + databaseName + "?options=DB_CLOSE_DELAY=-1",
+            "--anydesk.cache.tasks.enabled=false",
+            "--anydesk.cache.users.enabled=false",
+            "--anydesk.cache.pages.enabled=false",
+            "--anydesk.statements.enabled=false",
+            "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        return SpringApplication.run(AnydeskApiApplication.class, args.toArray(String[]::new));
+    }
+
+    public static SeededData seed(ConfigurableApplicationContext context, int users, int tasks, int tasksPerUser) {
+        TaskService taskService = context.getBean(TaskService.class);
+        UserService userService = context.getBean(UserService.class);
+        AssignmentService assignmentService = context.getBean(AssignmentService.class);
+
+        List<Long> taskIds = new ArrayList<>(tasks);
+        for (int from = 0; from < tasks; from += SEED_BATCH_SIZE) {
+            List<TaskRequestDto> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(tasks, from + SEED_BATCH_SIZE); i++) {
+                batch.add(new TaskRequestDto("Task " + i, "Seeded task number " + i + " for benchmarking"));
+            }
+            taskIds.addAll(createdIds(taskService.createTasks(batch).getResults()));
+        }
+
+        List<Long> userIds = new ArrayList<>(users);
+        for (int from = 0; from < users; from += SEED_BATCH_SIZE) {
+            List<UserRequestDto> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(users, from + SEED_BATCH_SIZE); i++) {
+                batch.add(new UserRequestDto("user" + i, "user" + i + "@example.com"));
+            }
+            userIds.addAll(createdIds(userService.createUsers(batch).getResults()));
+        }
+
+        List<AssignmentPairDto> pairs = new ArrayList<>();
+        for (int u = 0; u < userIds.size() && !taskIds.isEmpty(); u++) {
+            for (int t = 0; t < tasksPerUser; t++) {
+                pairs.add(new AssignmentPairDto(userIds.get(u), taskIds.get((u * tasksPerUser + t) % taskIds.size())));
+                if (pairs.size() == SEED_BATCH_SIZE) {
+                    assignmentService.assignTasks(new AssignmentBatchRequestDto(pairs, null, null));
+                    pairs = new ArrayList<>();
+                }
+            }
+        }
+        if (!pairs.isEmpty()) {
+            assignmentService.assignTasks(new AssignmentBatchRequestDto(pairs, null, null));
+        }
+        return new SeededData(userIds, taskIds);
+    }
+
+    private static List<Long> createdIds(List<BatchItemResultDto> results) {
+        return results.stream().map(BatchItemResultDto::getId).filter(Objects::nonNull).toList();
+    }
+
+    public record SeededData(List<Long> userIds, List<Long> taskIds) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.mappers.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    int assignments;
+
+    private TaskEntity task;
+    private UserEntity user;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        task = new TaskEntity();
+        task.setId(1L);
+        task.setTitle("Task 1");
+        task.setDescription("A task with " + assignments + " assigned users");
+
+        user = new UserEntity();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setEmail("user1@example.com");
+
+        List<UserEntity> assignedUsers = new ArrayList<>(assignments);
+        List<TaskEntity> tasks = new ArrayList<>(assignments);
+        ids = new ArrayList<>(assignments);
+        for (long i = 0; i < assignments; i++) {
+            UserEntity assignedUser = new UserEntity();
+            assignedUser.setId(i);
+            assignedUsers.add(assignedUser);
+
+            TaskEntity assignedTask = new TaskEntity();
+            assignedTask.setId(i);
+            tasks.add(assignedTask);
+
+            ids.add(i);
+        }
+        task.setAssignedUsers(assignedUsers);
+        user.setTasks(tasks);
+    }
+
+    @Benchmark
+    public TaskResponseDto mapTaskFromEntityGraph() {
+        return EntityMapper.mapToDto(task);
+    }
+
+    @Benchmark
+    public TaskResponseDto mapTaskWithAssignmentIds() {
+        return EntityMapper.mapToDto(task, ids);
+    }
+
+    @Benchmark
+    public UserResponseDto mapUserFromEntityGraph() {
+        return EntityMapper.mapToDto(user);
+    }
+
+    @Benchmark
+    public UserResponseDto mapUserWithTaskIds() {
+        return EntityMapper.mapToDto(user, ids);
+    }
+}
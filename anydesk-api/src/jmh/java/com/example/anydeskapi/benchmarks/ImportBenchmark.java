@@ -0,0 +1,129 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.dtos.ImportFormat;
+import com.example.anydeskapi.services.interfaces.ImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports a generated NDJSON stream of tasks, one row in {@value #MISTYPED_EVERY} with a mistyped title. Each
+ * iteration prints the peak heap it reached, so running with a small heap (e.g. {@code -jvmArgsAppend -Xmx256m})
+ * shows whether memory stays flat as the row count grows. The in-memory database is part of that peak; the trigram
+ * index is off, since it holds every row by design.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private static final int MISTYPED_EVERY = 1000;
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    private final AtomicLong runs = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ImportService importService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("import-" + rows, "--anydesk.search.ngram.enabled=false");
+        importService = context.getBean(ImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        jdbcTemplate.update("delete from tasks");
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        long peak = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum();
+        System.out.printf("%n%d rows, peak heap %d MB%n", rows, peak / (1024 * 1024));
+    }
+
+    @Benchmark
+    public void importTasks() throws IOException {
+        importService.importTasks(new GeneratedRows(runs.incrementAndGet(), rows), ImportFormat.NDJSON,
+            OutputStream.nullOutputStream());
+    }
+
+    private static final class GeneratedRows extends InputStream {
+        private final long run;
+        private final int rows;
+        private int row;
+        private byte[] line = new byte[0];
+        private int position;
+
+        GeneratedRows(long run, int rows) {
+            this.run = run;
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (!fill()) {
+                return -1;
+            }
+            return line[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean fill() {
+            if (position < line.length) {
+                return true;
+            }
+            if (row == rows) {
+                return false;
+            }
+            row++;
+            String title = row % MISTYPED_EVERY == 0
+                ? "{\"text\":\"Import " + run + "-" + row + "\"}"
+                : "\"Import " + run + "-" + row + "\"";
+            line = ("{\"title\":" + title + ",\"description\":\"Imported task number " + row + "\"}\n")
+                .getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.caching.JsonFragmentCache;
+import com.example.anydeskapi.caching.JsonFragmentSerializer;
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.dtos.PageResponseDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes a page of tasks with and without the JSON fragment cache. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per encoded page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFragmentBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    @Param({"false", "true"})
+    boolean fragments;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<TaskResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (fragments) {
+            SimpleCacheManager cacheManager = new SimpleCacheManager();
+            cacheManager.setCaches(List.of(
+                new CaffeineCache(CacheConfig.TASK_FRAGMENTS_CACHE, Caffeine.newBuilder().maximumSize(pageSize).build()),
+                new CaffeineCache(CacheConfig.USER_FRAGMENTS_CACHE, Caffeine.newBuilder().maximumSize(pageSize).build())));
+            cacheManager.afterPropertiesSet();
+            builder.modulesToInstall(JsonFragmentSerializer.module(new JsonFragmentCache(cacheManager)));
+        }
+        objectMapper = builder.build();
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<TaskResponseDto> tasks = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            tasks.add(new TaskResponseDto(i, "Task " + i, "Serialized task number " + i, List.of(i, i + 1, i + 2), updatedAt));
+        }
+        page = PageResponseDto.of(new PageImpl<>(tasks, PageRequest.of(0, pageSize), 100_000));
+    }
+
+    @Benchmark
+    public void writePage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.dtos.PageResponseDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    String format;
+
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    @Param({"0", "5"})
+    int assignmentsPerTask;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<TaskResponseDto> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+        List<TaskResponseDto> tasks = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            TaskResponseDto task = new TaskResponseDto();
+            task.setId(i);
+            task.setTitle("Task " + i);
+            task.setDescription("Serialized task number " + i);
+            if (assignmentsPerTask > 0) {
+                List<Long> userIds = new ArrayList<>(assignmentsPerTask);
+                for (long u = 0; u < assignmentsPerTask; u++) {
+                    userIds.add(i * assignmentsPerTask + u);
+                }
+                task.setAssignedUserIds(userIds);
+            }
+            tasks.add(task);
+        }
+        page = PageResponseDto.of(new PageImpl<>(tasks, PageRequest.of(0, pageSize), 100_000));
+
+        // JMH only reports time, so print the encoded size next to each trial for the size comparison.
+        System.out.printf("%n%s payload: %d bytes%n", format, serializePage().length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
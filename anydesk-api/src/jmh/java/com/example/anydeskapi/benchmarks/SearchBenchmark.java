@@ -0,0 +1,53 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.services.interfaces.TaskService;
+import com.example.anydeskapi.services.interfaces.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"10000"})
+    int rows;
+
+    @Param({"false", "true"})
+    boolean ngram;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("search-" + rows + "-" + ngram, "--anydesk.search.ngram.enabled=" + ngram);
+        taskService = context.getBean(TaskService.class);
+        userService = context.getBean(UserService.class);
+        BenchmarkApplication.seed(context, rows, rows, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponseDto> searchTasksByDescription() {
+        return taskService.getAllTasks(0, 10, null, "number 42");
+    }
+
+    @Benchmark
+    public Page<UserResponseDto> searchUsersByEmail() {
+        return userService.getAllUsers(0, 10, null, "user42@");
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.specifications.TaskSpecifications;
+import com.example.anydeskapi.data.specifications.UserSpecifications;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    private static final List<Long> IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+    private ConfigurableApplicationContext context;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("specifications");
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<TaskEntity> buildTaskSpecification() {
+        return taskSpecification();
+    }
+
+    @Benchmark
+    public Specification<UserEntity> buildUserSpecification() {
+        return userSpecification();
+    }
+
+    @Benchmark
+    public Predicate resolveTaskPredicate() {
+        CriteriaQuery<TaskEntity> query = criteriaBuilder.createQuery(TaskEntity.class);
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+        return taskSpecification().toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate resolveUserPredicate() {
+        CriteriaQuery<UserEntity> query = criteriaBuilder.createQuery(UserEntity.class);
+        Root<UserEntity> root = query.from(UserEntity.class);
+        return userSpecification().toPredicate(root, query, criteriaBuilder);
+    }
+
+    private static Specification<TaskEntity> taskSpecification() {
+        return Specification.where(TaskSpecifications.hasTitle("task"))
+            .and(TaskSpecifications.hasDescription("benchmark"))
+            .and(TaskSpecifications.hasIdGreaterThan(100L))
+            .and(TaskSpecifications.hasIdIn(IDS));
+    }
+
+    private static Specification<UserEntity> userSpecification() {
+        return Specification.where(UserSpecifications.hasUsername("user"))
+            .and(UserSpecifications.hasEmail("example.com"))
+            .and(UserSpecifications.hasIdGreaterThan(100L))
+            .and(UserSpecifications.hasIdIn(IDS));
+    }
+}
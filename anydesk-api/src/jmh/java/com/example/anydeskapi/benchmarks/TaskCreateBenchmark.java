@@ -0,0 +1,77 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.TaskRequestDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.services.interfaces.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates tasks against tables of up to a million existing rows, so the cost of the unique title key lookup shows
+ * at realistic sizes. Kept apart from {@link TaskServiceBenchmark} so only this measurement pays for the large seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskCreateBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    int tasks;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("task-create-" + tasks);
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        BenchmarkApplication.seed(context, tasks / 10, tasks, 3);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDto createAndDeleteTask() {
+        long n = sequence.incrementAndGet();
+        TaskResponseDto created = taskService.createTask(new TaskRequestDto("Benchmark task " + n, "Created task " + n));
+        taskService.deleteTask(created.getId());
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchResultDto createTasksBatch() {
+        List<TaskRequestDto> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long n = sequence.incrementAndGet();
+            batch.add(new TaskRequestDto("Benchmark task " + n, "Created task " + n));
+        }
+        BatchResultDto result = taskService.createTasks(batch);
+        taskRepository.deleteAllByIdInBatch(result.getResults().stream()
+            .map(BatchItemResultDto::getId)
+            .filter(Objects::nonNull)
+            .toList());
+        return result;
+    }
+}
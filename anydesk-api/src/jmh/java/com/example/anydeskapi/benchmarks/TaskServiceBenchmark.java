@@ -0,0 +1,82 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.TaskRequestDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.pagination.CursorCodec;
+import com.example.anydeskapi.services.interfaces.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    int tasks;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Long> taskIds;
+    private String middleCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("task-service-" + tasks);
+        taskService = context.getBean(TaskService.class);
+        taskIds = BenchmarkApplication.seed(context, tasks / 10, tasks, 3).taskIds();
+        middleCursor = CursorCodec.encode(taskIds.get(taskIds.size() / 2));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponseDto> getAllTasks() {
+        return taskService.getAllTasks(randomPage(), 10, null, null);
+    }
+
+    @Benchmark
+    public Page<TaskResponseDto> getAllTasksFiltered() {
+        return taskService.getAllTasks(0, 10, "task 1", "benchmarking");
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<TaskResponseDto> getTasksByCursor() {
+        return taskService.getTasksByCursor(middleCursor, 10, null, null);
+    }
+
+    @Benchmark
+    public TaskResponseDto getTaskById() {
+        return taskService.getTaskById(taskIds.get(randomIndex()));
+    }
+
+    @Benchmark
+    public TaskResponseDto updateTask() {
+        int index = randomIndex();
+        return taskService.updateTask(taskIds.get(index),
+            new TaskRequestDto("Task " + index, "Updated task number " + sequence.incrementAndGet()));
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(taskIds.size());
+    }
+
+    private int randomPage() {
+        return ThreadLocalRandom.current().nextInt(taskIds.size() / 10);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.anydeskapi.benchmarks;
+
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.UserRequestDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.pagination.CursorCodec;
+import com.example.anydeskapi.services.interfaces.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int SEEDED_TASKS_PER_USER = 3;
+
+    @Param({"1000", "10000"})
+    int users;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserRepository userRepository;
+    private List<Long> userIds;
+    private List<Long> taskIds;
+    private String middleCursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("user-service-" + users);
+        userService = context.getBean(UserService.class);
+        userRepository = context.getBean(UserRepository.class);
+        BenchmarkApplication.SeededData data = BenchmarkApplication.seed(context, users, users, SEEDED_TASKS_PER_USER);
+        userIds = data.userIds();
+        taskIds = data.taskIds();
+        middleCursor = CursorCodec.encode(userIds.get(userIds.size() / 2));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<UserResponseDto> getAllUsers() {
+        return userService.getAllUsers(randomPage(), 10, null, null);
+    }
+
+    @Benchmark
+    public Page<UserResponseDto> getAllUsersFiltered() {
+        return userService.getAllUsers(0, 10, "user1", "example.com");
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<UserResponseDto> getUsersByCursor() {
+        return userService.getUsersByCursor(middleCursor, 10, null, null);
+    }
+
+    @Benchmark
+    public UserResponseDto getUserById() {
+        return userService.getUserById(userIds.get(randomIndex()));
+    }
+
+    @Benchmark
+    public UserResponseDto updateUser() {
+        int index = randomIndex();
+        return userService.updateUser(userIds.get(index), new UserRequestDto("user" + sequence.incrementAndGet(), "user" + index + "@example.com"));
+    }
+
+    @Benchmark
+    public UserResponseDto createAndDeleteUser() {
+        long n = sequence.incrementAndGet();
+        UserResponseDto created = userService.createUser(new UserRequestDto("bench" + n, "bench" + n + "@example.com"));
+        userService.deleteUser(created.getId());
+        return created;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchResultDto createUsersBatch() {
+        List<UserRequestDto> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long n = sequence.incrementAndGet();
+            batch.add(new UserRequestDto("bench" + n, "bench" + n + "@example.com"));
+        }
+        BatchResultDto result = userService.createUsers(batch);
+        userRepository.deleteAllByIdInBatch(result.getResults().stream()
+            .map(BatchItemResultDto::getId)
+            .filter(Objects::nonNull)
+            .toList());
+        return result;
+    }
+
+    @Benchmark
+    public void assignAndRemoveTask() {
+        int index = randomIndex();
+        Long userId = userIds.get(index);
+        Long taskId = taskIds.get((index * SEEDED_TASKS_PER_USER + SEEDED_TASKS_PER_USER) % taskIds.size());
+        userService.assignTaskToUser(userId, taskId);
+        userService.removeTaskFromUser(userId, taskId);
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(userIds.size());
+    }
+
+    private int randomPage() {
+        return ThreadLocalRandom.current().nextInt(userIds.size() / 10);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.anydeskapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+final class ApiClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    ApiClient(String baseUrl, Duration requestTimeout, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(requestTimeout)
+            .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    int send(String method, String path) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request(method, path, HttpRequest.BodyPublishers.noBody()),
+            HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+
+    <T> T post(String path, Object body, Class<T> responseType) throws IOException, InterruptedException {
+        HttpRequest request = request("POST", path, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " failed with status " + response.statusCode()
+                + ": " + new String(response.body()));
+        }
+        return objectMapper.readValue(response.body(), responseType);
+    }
+
+    private HttpRequest request(String method, String path, HttpRequest.BodyPublisher body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .method(method, body)
+            .build();
+    }
+}
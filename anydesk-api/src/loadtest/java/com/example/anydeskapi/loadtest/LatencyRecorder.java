@@ -0,0 +1,60 @@
+package com.example.anydeskapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatencyRecorder {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.histogram.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+
+    List<EndpointResult> results(Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        return endpoints.entrySet().stream()
+            .map(entry -> EndpointResult.of(entry.getKey(), entry.getValue().histogram.copy(), entry.getValue().errors.sum(), seconds))
+            .toList();
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        endpoints.values().forEach(stats -> total.add(stats.histogram));
+        return total;
+    }
+
+    private static final class EndpointStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record EndpointResult(String endpoint, long count, long errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static EndpointResult of(String endpoint, Histogram histogram, long errors, double seconds) {
+            return new EndpointResult(endpoint, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.anydeskapi.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator. Operations are dispatched on a fixed schedule regardless of how long earlier
+ * operations take, and latency is measured from the scheduled start rather than from the actual send, so a
+ * stalled server shows up in the percentiles instead of silently lowering the offered load.
+ */
+final class LoadGenerator {
+    private static final int PAGE_SIZE = 10;
+
+    private final ApiClient client;
+    private final Seeder.SeededData data;
+    private final LoadTestOptions options;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicLong assignmentSequence = new AtomicLong();
+
+    LoadGenerator(ApiClient client, Seeder.SeededData data, LoadTestOptions options) {
+        this.client = client;
+        this.data = data;
+        this.options = options;
+        this.operations = options.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Result run() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        double intervalNanos = 1e9 / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long dispatched = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + (long) (i * intervalNanos);
+                if (intendedStart >= end) {
+                    break;
+                }
+                sleepUntil(intendedStart);
+                Operation operation = nextOperation();
+                LatencyRecorder target = intendedStart >= measureFrom ? recorder : null;
+                executor.execute(() -> execute(operation, intendedStart, target));
+                if (target != null) {
+                    dispatched++;
+                }
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(options.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        return new Result(recorder, options.duration(), dispatched);
+    }
+
+    private void execute(Operation operation, long intendedStart, LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case LIST_TASKS -> call(recorder, "GET /api/tasks", "GET",
+                "/api/tasks?page=" + random.nextInt(pages(data.taskIds().size())) + "&size=" + PAGE_SIZE, intendedStart);
+            case GET_TASK -> call(recorder, "GET /api/tasks/{id}", "GET",
+                "/api/tasks/" + data.taskIds().get(random.nextInt(data.taskIds().size())), intendedStart);
+            case LIST_USERS -> call(recorder, "GET /api/users", "GET",
+                "/api/users?page=" + random.nextInt(pages(data.userIds().size())) + "&size=" + PAGE_SIZE, intendedStart);
+            case GET_USER -> call(recorder, "GET /api/users/{id}", "GET",
+                "/api/users/" + data.userIds().get(random.nextInt(data.userIds().size())), intendedStart);
+            case ASSIGN_AND_REMOVE -> assignAndRemove(recorder, intendedStart);
+            case REACTIVE_LIST_TASKS -> call(recorder, "GET /api/reactive/tasks", "GET",
+                "/api/reactive/tasks?page=" + random.nextInt(pages(data.taskIds().size())) + "&size=" + PAGE_SIZE, intendedStart);
+            case REACTIVE_GET_TASK -> call(recorder, "GET /api/reactive/tasks/{id}", "GET",
+                "/api/reactive/tasks/" + data.taskIds().get(random.nextInt(data.taskIds().size())), intendedStart);
+            case REACTIVE_LIST_USERS -> call(recorder, "GET /api/reactive/users", "GET",
+                "/api/reactive/users?page=" + random.nextInt(pages(data.userIds().size())) + "&size=" + PAGE_SIZE, intendedStart);
+            case REACTIVE_GET_USER -> call(recorder, "GET /api/reactive/users/{id}", "GET",
+                "/api/reactive/users/" + data.userIds().get(random.nextInt(data.userIds().size())), intendedStart);
+        }
+    }
+
+    // Each call picks a user/task pair that was not seeded and is not in use by another in-flight call, so
+    // both requests are expected to succeed. The remove is issued as soon as the assign completes.
+    private void assignAndRemove(LatencyRecorder recorder, long intendedStart) {
+        long sequence = assignmentSequence.getAndIncrement();
+        int users = data.userIds().size();
+        int tasks = data.taskIds().size();
+        int userIndex = (int) (sequence % users);
+        long round = sequence / users;
+        int taskIndex = (int) ((userIndex * (long) data.tasksPerUser() + data.tasksPerUser() + round % (tasks - data.tasksPerUser())) % tasks);
+        String pair = data.userIds().get(userIndex) + "/%s-task/" + data.taskIds().get(taskIndex);
+
+        long assigned = call(recorder, "PATCH /api/users/{userId}/assign-task/{taskId}", "PATCH",
+            "/api/users/" + pair.formatted("assign"), intendedStart);
+        call(recorder, "PATCH /api/users/{userId}/remove-task/{taskId}", "PATCH",
+            "/api/users/" + pair.formatted("remove"), assigned);
+    }
+
+    private long call(LatencyRecorder recorder, String endpoint, String method, String path, long intendedStart) {
+        boolean error;
+        try {
+            error = client.send(method, path) >= 400;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            error = true;
+        } catch (Exception ex) {
+            error = true;
+        }
+        long completed = System.nanoTime();
+        if (recorder != null) {
+            recorder.record(endpoint, completed - intendedStart, error);
+        }
+        return completed;
+    }
+
+    private Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weighted pick out of range: " + pick);
+    }
+
+    private static int pages(int rows) {
+        return Math.max(1, rows / PAGE_SIZE);
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    record Result(LatencyRecorder recorder, Duration measured, long dispatched) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.anydeskapi.loadtest;
+
+import com.example.anydeskapi.AnydeskApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = options.baseUrl() == null ? start(options.applicationArgs()) : null;
+        try {
+            String baseUrl = context == null
+                ? options.baseUrl()
+                : "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            ApiClient client = new ApiClient(baseUrl, options.requestTimeout(), objectMapper);
+
+            System.out.printf("Seeding %d users, %d tasks and %d assignments per user on %s%n",
+                options.users(), options.tasks(), options.tasksPerUser(), baseUrl);
+            Seeder.SeededData data = new Seeder(client).seed(options.users(), options.tasks(), options.tasksPerUser());
+
+            System.out.printf("Offering %.1f ops/s for %s after %s of warmup, mix %s%n",
+                options.rate(), options.duration(), options.warmup(), mix(options));
+            LoadGenerator.Result result = new LoadGenerator(client, data, options).run();
+
+            List<LatencyRecorder.EndpointResult> endpoints = result.recorder().results(result.measured());
+            print(System.out, options, result, endpoints);
+            write(objectMapper, options, result, endpoints);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(List<String> applicationArgs) {
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--anydesk.reactive.url=r2dbc:h2:mem:///loadtest?options=DB_CLOSE_DELAY=-1"));
+        applicationArgs.forEach(arg -> args.removeIf(defaultArg -> key(defaultArg).equals(key(arg))));
+        args.addAll(applicationArgs);
+        return SpringApplication.run(AnydeskApiApplication.class, args.toArray(String[]::new));
+    }
+
+    private static String key(String arg) {
+        int separator = arg.indexOf('=');
+        return separator < 0 ? arg : arg.substring(0, separator);
+    }
+
+    private static Map<String, Integer> mix(LoadTestOptions options) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        return mix;
+    }
+
+    private static void print(PrintStream out, LoadTestOptions options, LoadGenerator.Result result,
+                              List<LatencyRecorder.EndpointResult> endpoints) {
+        double seconds = result.measured().toNanos() / 1e9;
+        Histogram total = result.recorder().total();
+        out.printf("%nOffered %.1f ops/s, dispatched %d operations (%.1f ops/s), completed %d requests (%.1f req/s)%n%n",
+            options.rate(), result.dispatched(), result.dispatched() / seconds, total.getTotalCount(), total.getTotalCount() / seconds);
+        out.printf("%-50s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "Endpoint", "Count", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LatencyRecorder.EndpointResult endpoint : endpoints) {
+            out.printf("%-50s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.endpoint(), endpoint.count(), endpoint.errors(), endpoint.throughput(),
+                endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.p999Ms(), endpoint.maxMs());
+        }
+        out.printf("%nResults written to %s%n", options.output().toAbsolutePath());
+    }
+
+    private static void write(ObjectMapper objectMapper, LoadTestOptions options, LoadGenerator.Result result,
+                              List<LatencyRecorder.EndpointResult> endpoints) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", options.users());
+        report.put("tasks", options.tasks());
+        report.put("tasksPerUser", options.tasksPerUser());
+        report.put("targetRate", options.rate());
+        report.put("warmup", options.warmup().toString());
+        report.put("duration", options.duration().toString());
+        report.put("mix", mix(options));
+        report.put("dispatched", result.dispatched());
+        report.put("endpoints", endpoints);
+
+        if (options.output().getParent() != null) {
+            Files.createDirectories(options.output().getParent());
+        }
+        objectMapper.writeValue(options.output().toFile(), report);
+    }
+}
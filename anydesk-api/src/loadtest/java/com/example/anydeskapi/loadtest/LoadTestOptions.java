@@ -0,0 +1,80 @@
+package com.example.anydeskapi.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+record LoadTestOptions(String baseUrl,
+                       int users,
+                       int tasks,
+                       int tasksPerUser,
+                       double rate,
+                       Duration warmup,
+                       Duration duration,
+                       Duration requestTimeout,
+                       Map<Operation, Integer> mix,
+                       Path output,
+                       List<String> applicationArgs) {
+
+    private static final String DEFAULT_MIX = "listTasks=30,getTask=20,listUsers=20,getUser=15,assignRemove=15";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--loadtest.") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring("--loadtest.".length(), separator), arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        LoadTestOptions parsed = new LoadTestOptions(
+            options.remove("base-url"),
+            Integer.parseInt(options.getOrDefault("users", "1000")),
+            Integer.parseInt(options.getOrDefault("tasks", "1000")),
+            Integer.parseInt(options.getOrDefault("tasks-per-user", "3")),
+            Double.parseDouble(options.getOrDefault("rate", "200")),
+            DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+            DurationStyle.detectAndParse(options.getOrDefault("duration", "60s")),
+            DurationStyle.detectAndParse(options.getOrDefault("request-timeout", "30s")),
+            parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+            Path.of(options.getOrDefault("output", "target/loadtest-result.json")),
+            List.copyOf(applicationArgs));
+
+        List.of("users", "tasks", "tasks-per-user", "rate", "warmup", "duration", "request-timeout", "mix", "output")
+            .forEach(options::remove);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown load test option(s): " + options.keySet());
+        }
+        if (parsed.users() < 1 || parsed.tasks() <= parsed.tasksPerUser() || parsed.rate() <= 0) {
+            throw new IllegalArgumentException("Need at least one user, more tasks than tasks-per-user and a positive rate.");
+        }
+        return parsed;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "'. Expected operation=weight.");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight.");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.anydeskapi.loadtest;
+
+import java.util.Arrays;
+
+enum Operation {
+    LIST_TASKS("listTasks"),
+    GET_TASK("getTask"),
+    LIST_USERS("listUsers"),
+    GET_USER("getUser"),
+    ASSIGN_AND_REMOVE("assignRemove"),
+    REACTIVE_LIST_TASKS("reactiveListTasks"),
+    REACTIVE_GET_TASK("reactiveGetTask"),
+    REACTIVE_LIST_USERS("reactiveListUsers"),
+    REACTIVE_GET_USER("reactiveGetUser");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(operation -> operation.key.equals(key))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "'. Expected one of "
+                + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.anydeskapi.loadtest;
+
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+import com.example.anydeskapi.dtos.AssignmentPairDto;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.BatchItemStatus;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.TaskRequestDto;
+import com.example.anydeskapi.dtos.UserRequestDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Seeder {
+    private static final int BATCH_SIZE = 1000;
+
+    private final ApiClient client;
+    private final String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+
+    Seeder(ApiClient client) {
+        this.client = client;
+    }
+
+    SeededData seed(int users, int tasks, int tasksPerUser) throws IOException, InterruptedException {
+        List<Long> taskIds = new ArrayList<>(tasks);
+        for (int from = 0; from < tasks; from += BATCH_SIZE) {
+            List<TaskRequestDto> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(tasks, from + BATCH_SIZE); i++) {
+                batch.add(new TaskRequestDto(prefix + " task " + i, "Load test task number " + i));
+            }
+            taskIds.addAll(createdIds("/api/tasks/batch", batch));
+        }
+
+        List<Long> userIds = new ArrayList<>(users);
+        for (int from = 0; from < users; from += BATCH_SIZE) {
+            List<UserRequestDto> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(users, from + BATCH_SIZE); i++) {
+                batch.add(new UserRequestDto(prefix + "user" + i, prefix + "user" + i + "@example.com"));
+            }
+            userIds.addAll(createdIds("/api/users/batch", batch));
+        }
+
+        List<AssignmentPairDto> pairs = new ArrayList<>();
+        for (int u = 0; u < userIds.size(); u++) {
+            for (int t = 0; t < tasksPerUser; t++) {
+                pairs.add(new AssignmentPairDto(userIds.get(u), taskIds.get((u * tasksPerUser + t) % taskIds.size())));
+                if (pairs.size() == BATCH_SIZE) {
+                    assign(pairs);
+                    pairs = new ArrayList<>();
+                }
+            }
+        }
+        if (!pairs.isEmpty()) {
+            assign(pairs);
+        }
+        return new SeededData(userIds, taskIds, tasksPerUser);
+    }
+
+    private List<Long> createdIds(String path, List<?> batch) throws IOException, InterruptedException {
+        BatchResultDto result = client.post(path, batch, BatchResultDto.class);
+        if (result.getFailed() > 0) {
+            BatchItemResultDto failure = result.getResults().stream()
+                .filter(item -> item.getStatus() != BatchItemStatus.CREATED)
+                .findFirst()
+                .orElseThrow();
+            throw new IllegalStateException("Seeding " + path + " failed: " + failure.getError());
+        }
+        return result.getResults().stream().map(BatchItemResultDto::getId).toList();
+    }
+
+    private void assign(List<AssignmentPairDto> pairs) throws IOException, InterruptedException {
+        client.post("/api/assignments/batch", new AssignmentBatchRequestDto(pairs, null, null), AssignmentBatchResultDto.class);
+    }
+
+    record SeededData(List<Long> userIds, List<Long> taskIds, int tasksPerUser) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import com.example.anydeskapi.events.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(CacheConfig.TASKS_CACHE, event.taskId());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(CacheConfig.USERS_CACHE, event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        evict(CacheConfig.USERS_CACHE, event.userId());
+        evict(CacheConfig.TASKS_CACHE, event.taskId());
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.routing.PrimaryReads;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import com.example.anydeskapi.events.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class EntityCounters {
+    private final Counter tasks;
+    private final Counter users;
+
+    public EntityCounters(TaskRepository taskRepository,
+                          UserRepository userRepository,
+                          PrimaryReads primaryReads,
+                          @Value("${anydesk.counts.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.tasks = new Counter(() -> primaryReads.get(taskRepository::count), reconcileInterval);
+        this.users = new Counter(() -> primaryReads.get(userRepository::count), reconcileInterval);
+    }
+
+    public long tasks() {
+        return tasks.get();
+    }
+
+    public long users() {
+        return users.get();
+    }
+
+    /** Forces a recount on next read, e.g. after rows were changed without going through the services. */
+    public void reconcile() {
+        tasks.invalidate();
+        users.invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        tasks.apply(event.type());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        users.apply(event.type());
+    }
+
+    // Kept current by create/delete events and recounted periodically, so rows changed outside the services
+    // (bulk SQL, other instances) only skew the value until the next reconcile.
+    private static class Counter {
+        private final AtomicLong value = new AtomicLong();
+        private final LongSupplier loader;
+        private final long reconcileIntervalNanos;
+        private volatile long reconciledAt;
+        private volatile boolean loaded;
+
+        Counter(LongSupplier loader, Duration reconcileInterval) {
+            this.loader = loader;
+            this.reconcileIntervalNanos = reconcileInterval.toNanos();
+        }
+
+        long get() {
+            long now = System.nanoTime();
+            if (!loaded || now - reconciledAt >= reconcileIntervalNanos) {
+                value.set(loader.getAsLong());
+                reconciledAt = now;
+                loaded = true;
+            }
+            return Math.max(0, value.get());
+        }
+
+        void invalidate() {
+            loaded = false;
+        }
+
+        void apply(ChangeType type) {
+            if (type == ChangeType.CREATED) {
+                value.incrementAndGet();
+            } else if (type == ChangeType.DELETED) {
+                value.decrementAndGet();
+            }
+        }
+    }
+}
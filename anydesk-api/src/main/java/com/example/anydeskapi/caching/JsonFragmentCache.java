@@ -0,0 +1,54 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.dtos.VersionedDto;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encoded JSON of task and user responses, reused for as long as the entity's {@code updatedAt} is unchanged.
+ * Each type has its own cache keyed by the DTO's id, so a hit does not allocate.
+ */
+@Component
+public class JsonFragmentCache {
+    private final Map<Class<?>, com.github.benmanes.caffeine.cache.Cache<Object, Object>> caches;
+
+    public JsonFragmentCache(CacheManager cacheManager) {
+        this.caches = cacheManager.getCache(CacheConfig.TASK_FRAGMENTS_CACHE) instanceof CaffeineCache tasks
+            && cacheManager.getCache(CacheConfig.USER_FRAGMENTS_CACHE) instanceof CaffeineCache users
+            ? Map.of(TaskResponseDto.class, tasks.getNativeCache(), UserResponseDto.class, users.getNativeCache())
+            : Map.of();
+    }
+
+    public boolean isEnabled() {
+        return !caches.isEmpty();
+    }
+
+    public SerializableString get(VersionedDto dto, Function<VersionedDto, String> encoder) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caches.get(dto.getClass());
+        LocalDateTime version = dto.getUpdatedAt();
+        if (cache == null) {
+            return new SerializedString(encoder.apply(dto));
+        }
+        if (cache.getIfPresent(dto.getId()) instanceof Entry entry && entry.version().equals(version)) {
+            return entry.json();
+        }
+        SerializedString json = new SerializedString(encoder.apply(dto));
+        json.asUnquotedUTF8();
+        cache.asMap().compute(dto.getId(), (id, existing) ->
+            existing instanceof Entry entry && entry.version().isAfter(version) ? existing : new Entry(version, json));
+        return json;
+    }
+
+    private record Entry(LocalDateTime version, SerializedString json) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.dtos.VersionedDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes {@link VersionedDto}s from the {@link JsonFragmentCache}, copying the cached bytes straight into the
+ * output instead of encoding the DTO again. Binary formats and pretty-printed output are encoded as usual.
+ */
+public class JsonFragmentSerializer extends StdSerializer<Object> implements ResolvableSerializer {
+    private static final JsonFactory DEFAULT_FACTORY = new JsonFactory();
+
+    private final JsonSerializer<Object> delegate;
+    private final JsonFragmentCache cache;
+
+    JsonFragmentSerializer(JsonSerializer<Object> delegate, JsonFragmentCache cache) {
+        super(Object.class);
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public static Module module(JsonFragmentCache cache) {
+        return new SimpleModule("JsonFragmentModule").setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                return VersionedDto.class.isAssignableFrom(beanDesc.getBeanClass())
+                    ? new JsonFragmentSerializer((JsonSerializer<Object>) serializer, cache)
+                    : serializer;
+            }
+        });
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        VersionedDto dto = (VersionedDto) value;
+        if (!cache.isEnabled() || dto.getId() == null || dto.getUpdatedAt() == null
+            || !(gen instanceof JsonGeneratorImpl) || gen.getPrettyPrinter() != null) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeRawValue(cache.get(dto, missing -> encode(missing, gen, provider)));
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    private String encode(Object value, JsonGenerator gen, SerializerProvider provider) {
+        JsonFactory factory = gen.getCodec() == null ? DEFAULT_FACTORY : gen.getCodec().getFactory();
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator fragment = factory.createGenerator(writer)) {
+            delegate.serialize(value, fragment, provider);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return writer.toString();
+    }
+}
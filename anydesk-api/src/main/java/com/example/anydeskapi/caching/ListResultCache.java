@@ -0,0 +1,135 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.data.routing.PrimaryReads;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import com.example.anydeskapi.events.UserChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class ListResultCache {
+    public static final String TASKS = "tasks";
+    public static final String USERS = "users";
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+    private final boolean staleWhileRevalidate;
+    private final PrimaryReads primaryReads;
+    private final AtomicLong taskVersion = new AtomicLong();
+    private final AtomicLong userVersion = new AtomicLong();
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(100), runnable -> {
+            Thread thread = new Thread(runnable, "list-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    public ListResultCache(CacheManager cacheManager,
+                           @Value("${anydesk.cache.pages.stale-while-revalidate:false}") boolean staleWhileRevalidate,
+                           PrimaryReads primaryReads) {
+        this.cache = cacheManager.getCache(CacheConfig.PAGES_CACHE) instanceof CaffeineCache caffeineCache
+            ? caffeineCache.getNativeCache()
+            : null;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.primaryReads = primaryReads;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String entityType, List<Object> params, Supplier<T> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        Key key = new Key(entityType, params);
+        long version = versionOf(entityType).get();
+        Entry entry = (Entry) cache.getIfPresent(key);
+        if (entry != null && entry.version() == version) {
+            return (T) entry.value();
+        }
+        if (entry != null && staleWhileRevalidate) {
+            refreshAsync(key, loader);
+            return (T) entry.value();
+        }
+        T value = primaryReads.get(loader);
+        put(key, version, value);
+        return value;
+    }
+
+    public static List<Object> params(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        userVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        taskVersion.incrementAndGet();
+        userVersion.incrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshAsync(Key key, Supplier<?> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    long version = versionOf(key.entityType()).get();
+                    put(key, version, primaryReads.get(loader));
+                } catch (RuntimeException ex) {
+                    log.warn("Background refresh of {} list page failed: {}", key.entityType(), ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void put(Key key, long version, Object value) {
+        cache.asMap().compute(key, (k, existing) ->
+            existing instanceof Entry entry && entry.version() > version ? existing : new Entry(version, value));
+    }
+
+    private AtomicLong versionOf(String entityType) {
+        return TASKS.equals(entityType) ? taskVersion : userVersion;
+    }
+
+    private record Key(String entityType, List<Object> params) {
+    }
+
+    private record Entry(long version, Object value) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.anydeskapi.caching;
+
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.dtos.VersionedDto;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Task and user responses by id. An entry is only served while its {@code updatedAt} is not older than the entity's
+ * current one, so a load that races with the after-commit eviction, or a change committed on another instance,
+ * costs a reload instead of being served until the entry expires.
+ */
+@Component
+public class VersionedDtoCache {
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<Object, Object>> caches = new HashMap<>();
+
+    public VersionedDtoCache(CacheManager cacheManager) {
+        for (String name : new String[]{CacheConfig.TASKS_CACHE, CacheConfig.USERS_CACHE}) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                caches.put(name, cache.getNativeCache());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends VersionedDto> T get(String cacheName, Long id, LocalDateTime currentVersion, Supplier<T> loader) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caches.get(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        if (cache.getIfPresent(id) instanceof VersionedDto cached && !isOlder(cached.getUpdatedAt(), currentVersion)) {
+            return (T) cached;
+        }
+        T loaded = loader.get();
+        cache.asMap().compute(id, (key, existing) ->
+            existing instanceof VersionedDto dto && isOlder(loaded.getUpdatedAt(), dto.getUpdatedAt()) ? existing : loaded);
+        return loaded;
+    }
+
+    private static boolean isOlder(LocalDateTime version, LocalDateTime than) {
+        if (than == null) {
+            return false;
+        }
+        return version == null || version.isBefore(than);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.anydeskapi.configs;
+
+import com.example.anydeskapi.caching.JsonFragmentCache;
+import com.example.anydeskapi.caching.JsonFragmentSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TASKS_CACHE = "tasks";
+    public static final String USERS_CACHE = "users";
+    public static final String PAGES_CACHE = "pages";
+    public static final String TASK_FRAGMENTS_CACHE = "task-fragments";
+    public static final String USER_FRAGMENTS_CACHE = "user-fragments";
+
+    @Bean
+    public CacheManager cacheManager(
+        @Value("${anydesk.cache.tasks.enabled:true}") boolean tasksEnabled,
+        @Value("${anydesk.cache.tasks.maximum-size:10000}") long tasksMaximumSize,
+        @Value("${anydesk.cache.tasks.ttl:10m}") Duration tasksTtl,
+        @Value("${anydesk.cache.users.enabled:true}") boolean usersEnabled,
+        @Value("${anydesk.cache.users.maximum-size:10000}") long usersMaximumSize,
+        @Value("${anydesk.cache.users.ttl:10m}") Duration usersTtl,
+        @Value("${anydesk.cache.pages.enabled:true}") boolean pagesEnabled,
+        @Value("${anydesk.cache.pages.maximum-size:1000}") long pagesMaximumSize,
+        @Value("${anydesk.cache.pages.ttl:1m}") Duration pagesTtl,
+        @Value("${anydesk.cache.fragments.enabled:true}") boolean fragmentsEnabled,
+        @Value("${anydesk.cache.fragments.maximum-size:20000}") long fragmentsMaximumSize,
+        @Value("${anydesk.cache.fragments.ttl:10m}") Duration fragmentsTtl) {
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+            buildCache(TASKS_CACHE, tasksEnabled, tasksMaximumSize, tasksTtl),
+            buildCache(USERS_CACHE, usersEnabled, usersMaximumSize, usersTtl),
+            buildCache(PAGES_CACHE, pagesEnabled, pagesMaximumSize, pagesTtl),
+            buildCache(TASK_FRAGMENTS_CACHE, fragmentsEnabled, fragmentsMaximumSize, fragmentsTtl),
+            buildCache(USER_FRAGMENTS_CACHE, fragmentsEnabled, fragmentsMaximumSize, fragmentsTtl)));
+        return cacheManager;
+    }
+
+    @Bean
+    public Module jsonFragmentModule(JsonFragmentCache jsonFragmentCache) {
+        return JsonFragmentSerializer.module(jsonFragmentCache);
+    }
+
+    private static Cache buildCache(String name, boolean enabled, long maximumSize, Duration ttl) {
+        if (!enabled) {
+            return new NoOpCache(name);
+        }
+        return new CaffeineCache(name, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build(), false);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.anydeskapi.configs;
+
+import com.example.anydeskapi.data.routing.ReadWriteRoutingDataSource;
+import com.example.anydeskapi.data.routing.ReplicaSet;
+import com.example.anydeskapi.filters.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "anydesk.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    // The pools are owned here rather than exposed as DataSource beans, so only the routing data source
+    // is picked up by JPA and wrapped by the statement counter.
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(
+        DataSourceProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${anydesk.replicas.urls}") List<String> urls,
+        @Value("${anydesk.replicas.username:${spring.datasource.username:}}") String username,
+        @Value("${anydesk.replicas.password:${spring.datasource.password:}}") String password,
+        @Value("${anydesk.replicas.pool-size:10}") int poolSize,
+        @Value("${anydesk.replicas.health-check-interval:5s}") Duration healthCheckInterval) {
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(i))
+                .username(username)
+                .password(password)
+                .build();
+            replica.setPoolName(name);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(name, replica);
+        }
+        ReplicaSet replicaSet = new ReplicaSet(replicas, Duration.ofSeconds(2));
+        replicaSet.startHealthChecks(healthCheckInterval);
+        return replicaSet;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaSet replicaSet,
+                                 ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        }
+        meterRegistry.ifAvailable(registry -> primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return ReadWriteRoutingDataSource.lazy(primary, replicaSet);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 25);
+        return registration;
+    }
+}
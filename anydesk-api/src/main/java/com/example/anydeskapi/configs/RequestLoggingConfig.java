@@ -0,0 +1,27 @@
+package com.example.anydeskapi.configs;
+
+import com.example.anydeskapi.filters.RequestLoggingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "anydesk.logging.request.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(
+        @Value("${anydesk.logging.request.success-sample-rate:0.01}") double successSampleRate,
+        @Value("${anydesk.logging.request.slow-threshold:500ms}") Duration slowThreshold) {
+
+        FilterRegistrationBean<RequestLoggingFilter> registration =
+            new FilterRegistrationBean<>(new RequestLoggingFilter(successSampleRate, slowThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+}
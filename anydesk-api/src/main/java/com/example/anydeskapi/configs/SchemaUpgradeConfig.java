@@ -0,0 +1,26 @@
+package com.example.anydeskapi.configs;
+
+import com.example.anydeskapi.data.schema.SchemaUpgrade;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+public class SchemaUpgradeConfig {
+
+    @Bean
+    public SchemaUpgrade schemaUpgrade(DataSource dataSource) throws SQLException {
+        SchemaUpgrade schemaUpgrade = new SchemaUpgrade(dataSource);
+        schemaUpgrade.run();
+        return schemaUpgrade;
+    }
+
+    // Runs the upgrade before Hibernate validates and updates the schema.
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaUpgradeDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaUpgrade");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.anydeskapi.configs;
+
+import com.example.anydeskapi.data.statistics.StatementCounter;
+import com.example.anydeskapi.filters.StatementCountingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "anydesk.statements.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountingConfig {
+
+    // Counting rows read wraps every ResultSet, including the ones exports stream millions of rows through, so it is
+    // opt-in; without it only rows written are counted.
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+        @Value("${anydesk.statements.count-rows:false}") boolean countRows) {
+
+        StatementCounter counter = new StatementCounter();
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(counter);
+                    if (countRows) {
+                        builder.proxyResultSet().methodListener(counter);
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilter(
+        MeterRegistry meterRegistry,
+        @Value("${anydesk.statements.budget:10}") int budget) {
+
+        FilterRegistrationBean<StatementCountingFilter> registration =
+            new FilterRegistrationBean<>(new StatementCountingFilter(meterRegistry, budget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
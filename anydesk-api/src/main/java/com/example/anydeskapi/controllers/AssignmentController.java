@@ -0,0 +1,36 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+import com.example.anydeskapi.services.interfaces.AssignmentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/assignments")
+@RequiredArgsConstructor
+@Tag(name = "Assignment Management", description = "Bulk operations on task/user assignments")
+public class AssignmentController {
+    private final AssignmentService assignmentService;
+
+    @Operation(summary = "Assign tasks in batch", description = "Assigns a list of user/task pairs, or every user × task combination, and reports the outcome per pair.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-pair results")
+    @ApiResponse(responseCode = "400", description = "Neither pairs nor userIds/taskIds given, or batch too large")
+    @ApiResponse(responseCode = "409", description = "Assignments changed concurrently; nothing was assigned")
+    @PostMapping("/batch")
+    public ResponseEntity<AssignmentBatchResultDto> assignTasks(@RequestBody AssignmentBatchRequestDto requestDto) {
+        return ResponseEntity.ok(assignmentService.assignTasks(requestDto));
+    }
+
+    @Operation(summary = "Remove tasks in batch", description = "Removes a list of user/task pairs, or every user × task combination, and reports the outcome per pair.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-pair results")
+    @ApiResponse(responseCode = "400", description = "Neither pairs nor userIds/taskIds given, or batch too large")
+    @PostMapping("/batch/remove")
+    public ResponseEntity<AssignmentBatchResultDto> removeTasks(@RequestBody AssignmentBatchRequestDto requestDto) {
+        return ResponseEntity.ok(assignmentService.removeTasks(requestDto));
+    }
+}
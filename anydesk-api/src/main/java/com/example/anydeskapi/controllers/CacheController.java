@@ -0,0 +1,46 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.dtos.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+@Tag(name = "Cache Statistics", description = "Hit/miss/eviction statistics of the entity caches")
+public class CacheController {
+    private final CacheManager cacheManager;
+
+    @Operation(summary = "Get cache statistics", description = "Retrieves size and hit/miss/eviction counters for each entity cache.")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .filter(Objects::nonNull)
+            .map(CacheController::toStats)
+            .toList());
+    }
+
+    private static CacheStatsDto toStats(Cache cache) {
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return new CacheStatsDto(cache.getName(), false, 0, 0, 0, 0, 0);
+        }
+        CacheStats stats = caffeineCache.getNativeCache().stats();
+        return new CacheStatsDto(cache.getName(), true, caffeineCache.getNativeCache().estimatedSize(),
+            stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.dtos.ChangeEventDto;
+import com.example.anydeskapi.events.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changes", description = "Live feed of committed task, user and assignment changes")
+public class ChangeFeedController {
+    private final ChangeFeed changeFeed;
+    private final Duration timeout;
+
+    public ChangeFeedController(ChangeFeed changeFeed, @Value("${anydesk.changes.timeout:30m}") Duration timeout) {
+        this.changeFeed = changeFeed;
+        this.timeout = timeout;
+    }
+
+    @Operation(summary = "Subscribe to changes", description = "Streams task, user and assignment events as server-sent events after each commit. Reconnect with Last-Event-ID to resume; a 'reset' event means the missed changes are gone and lists should be refetched.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+        @Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        ChangeFeed.Subscription subscription = changeFeed.subscribe(lastEventId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements ChangeFeed.Sink {
+        @Override
+        public void send(String eventId, ChangeEventDto event) throws IOException {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.getEntity()).data(event, MediaType.APPLICATION_JSON);
+            emitter.send(eventId == null ? builder : builder.id(eventId));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.dtos.VersionedDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+final class ETags {
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    private ETags() {
+    }
+
+    // Weak, because the JSON, CBOR and Smile encodings of one version share the tag and are only equivalent.
+    static String item(String type, VersionedDto dto) {
+        return "W/\"" + type + "-" + dto.getId() + "-" + micros(dto.getUpdatedAt()) + "\"";
+    }
+
+    static String collection(String type, CollectionVersion version, Object... params) {
+        return "W/\"" + type + "-" + micros(version.lastModified()) + "-" + micros(version.lastDeleted())
+            + "-" + Integer.toHexString(Arrays.hashCode(params)) + "\"";
+    }
+
+    static long lastModified(VersionedDto dto) {
+        return dto.getUpdatedAt() == null
+            ? -1
+            : dto.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static ResponseEntity.BodyBuilder ok() {
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private static long micros(LocalDateTime timestamp) {
+        return timestamp == null
+            ? 0
+            : timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+}
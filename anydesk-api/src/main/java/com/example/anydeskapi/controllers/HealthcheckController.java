@@ -1,14 +1,27 @@
 package com.example.anydeskapi.controllers;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthcheckController {
+
+    private final HealthEndpoint healthEndpoint;
+
     @GetMapping("/health")
-    public Map<String, String> healthCheck() {
-        return Map.of("status", "UP");
+    public ResponseEntity<Map<String, String>> healthCheck() {
+        HealthComponent readiness = healthEndpoint.healthForPath("readiness");
+        Status status = readiness == null ? Status.UNKNOWN : readiness.getStatus();
+        HttpStatus httpStatus = Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(httpStatus).body(Map.of("status", status.getCode()));
     }
 }
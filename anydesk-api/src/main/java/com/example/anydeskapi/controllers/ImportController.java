@@ -0,0 +1,59 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.dtos.ImportFormat;
+import com.example.anydeskapi.services.interfaces.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Import", description = "Streaming bulk imports from NDJSON or CSV")
+public class ImportController {
+    private final ImportService importService;
+    private final StreamingRequestTimeout streamingTimeout;
+
+    @Operation(summary = "Import tasks", description = "Creates tasks from an NDJSON or CSV (title,description) body in chunks and streams back one line per rejected row, followed by a summary line.")
+    @ApiResponse(responseCode = "200", description = "Import processed; see the streamed report")
+    @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+    @PostMapping(value = "/tasks", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> importTasks(HttpServletRequest request, WebRequest webRequest) {
+        streamingTimeout.applyTo(webRequest);
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return report(out -> importService.importTasks(request.getInputStream(), format, out));
+    }
+
+    @Operation(summary = "Import users", description = "Creates users from an NDJSON or CSV (username,email) body in chunks and streams back one line per rejected row, followed by a summary line.")
+    @ApiResponse(responseCode = "200", description = "Import processed; see the streamed report")
+    @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+    @PostMapping(value = "/users", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> importUsers(HttpServletRequest request, WebRequest webRequest) {
+        streamingTimeout.applyTo(webRequest);
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return report(out -> importService.importUsers(request.getInputStream(), format, out));
+    }
+
+    @Operation(summary = "Import assignments", description = "Assigns tasks from an NDJSON or CSV (userId,taskId) body in chunks and streams back one line per rejected row, followed by a summary line. Pairs that already exist are skipped.")
+    @ApiResponse(responseCode = "200", description = "Import processed; see the streamed report")
+    @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+    @PostMapping(value = "/assignments", consumes = {MediaType.APPLICATION_NDJSON_VALUE, ImportFormat.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> importAssignments(HttpServletRequest request, WebRequest webRequest) {
+        streamingTimeout.applyTo(webRequest);
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return report(out -> importService.importAssignments(request.getInputStream(), format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> report(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
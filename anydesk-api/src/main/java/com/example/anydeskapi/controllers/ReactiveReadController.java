@@ -0,0 +1,64 @@
+package com.example.anydeskapi.controllers;
+
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.services.interfaces.ReactiveReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+@Tag(name = "Reactive Reads", description = "Non-blocking task and user lookups over R2DBC")
+public class ReactiveReadController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    @Operation(summary = "List tasks", description = "Lists tasks in ID order with the same filters as GET /api/tasks. Request application/x-ndjson to stream the results as they arrive.")
+    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    @GetMapping("/tasks")
+    public Flux<TaskResponseDto> getTasks(
+        @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+        @Parameter(description = "Filter by description") @RequestParam(required = false) String description) {
+
+        return reactiveReadService.getTasks(page, size, title, description);
+    }
+
+    @Operation(summary = "Get task by ID", description = "Retrieves a task by its ID.")
+    @ApiResponse(responseCode = "200", description = "Task found")
+    @ApiResponse(responseCode = "404", description = "Task not found")
+    @GetMapping("/tasks/{id}")
+    public Mono<TaskResponseDto> getTaskById(@PathVariable Long id) {
+        return reactiveReadService.getTaskById(id);
+    }
+
+    @Operation(summary = "List users", description = "Lists users in ID order with the same filters as GET /api/users. Request application/x-ndjson to stream the results as they arrive.")
+    @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    @GetMapping("/users")
+    public Flux<UserResponseDto> getUsers(
+        @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Filter by username") @RequestParam(required = false) String username,
+        @Parameter(description = "Filter by email") @RequestParam(required = false) String email) {
+
+        return reactiveReadService.getUsers(page, size, username, email);
+    }
+
+    @Operation(summary = "Get user by ID", description = "Retrieves a user by their ID.")
+    @ApiResponse(responseCode = "200", description = "User found")
+    @ApiResponse(responseCode = "404", description = "User not found")
+    @GetMapping("/users/{id}")
+    public Mono<UserResponseDto> getUserById(@PathVariable Long id) {
+        return reactiveReadService.getUserById(id);
+    }
+}
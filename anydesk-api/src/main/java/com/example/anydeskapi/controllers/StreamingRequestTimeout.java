@@ -0,0 +1,27 @@
+package com.example.anydeskapi.controllers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+
+import java.time.Duration;
+
+/**
+ * Gives export and import responses their own async timeout, so spring.mvc.async.request-timeout can stay short for
+ * every other asynchronous request. It has to be applied before the handler returns the streaming body.
+ */
+@Component
+class StreamingRequestTimeout {
+    private final Duration timeout;
+
+    StreamingRequestTimeout(@Value("${anydesk.streaming.request-timeout:30m}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    void applyTo(WebRequest request) {
+        if (request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package com.example.anydeskapi.controllers;
 
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.PageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
+import com.example.anydeskapi.dtos.SyncResponseDto;
 import com.example.anydeskapi.dtos.TaskRequestDto;
 import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.services.interfaces.ExportService;
+import com.example.anydeskapi.services.interfaces.SyncService;
 import com.example.anydeskapi.services.interfaces.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,9 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -20,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ExportService exportService;
+    private final StreamingRequestTimeout streamingTimeout;
+    private final SyncService syncService;
 
     @Operation(summary = "Create a new task", description = "Creates a task with a unique title.")
     @ApiResponse(responseCode = "201", description = "Task successfully created")
@@ -30,24 +45,90 @@ public class TaskController {
         return ResponseEntity.status(201).body(createdTask);
     }
 
-    @Operation(summary = "Get all tasks", description = "Retrieves a paginated list of tasks with optional filters.")
+    @Operation(summary = "Create tasks in batch", description = "Creates up to 1000 tasks in one request and reports a result for each item.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results")
+    @ApiResponse(responseCode = "400", description = "Batch is empty or too large")
+    @ApiResponse(responseCode = "409", description = "A title was taken concurrently; nothing was created")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto> createTasks(@RequestBody List<TaskRequestDto> requestDtos) {
+        return ResponseEntity.ok(taskService.createTasks(requestDtos));
+    }
+
+    @Operation(summary = "Get all tasks", description = "Retrieves a paginated list of tasks with optional filters. Responds with JSON, CBOR or Smile depending on Accept.")
     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Tasks not modified since the ETag in If-None-Match")
     @GetMapping
-    public ResponseEntity<Page<TaskResponseDto>> getAllTasks(
+    public ResponseEntity<PageResponseDto<TaskResponseDto>> getAllTasks(
         @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
         @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+        @Parameter(description = "Filter by description") @RequestParam(required = false) String description,
+        WebRequest request) {
+
+        CollectionVersion version = taskService.getTasksVersion();
+        if (request.checkNotModified(ETags.collection("tasks", version, page, size, title, description))) {
+            return ETags.notModified();
+        }
+        return ETags.ok().body(PageResponseDto.of(taskService.getAllTasks(page, size, title, description, version)));
+    }
+
+    @Operation(summary = "Get tasks by cursor", description = "Retrieves tasks in ID order after the given cursor, without counting the total.")
+    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<TaskResponseDto>> getTasksByCursor(
+        @Parameter(description = "Opaque cursor returned as nextCursor by the previous call") @RequestParam(required = false) String after,
+        @Parameter(description = "Maximum number of tasks to return") @RequestParam(defaultValue = "10") int limit,
+        @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
         @Parameter(description = "Filter by description") @RequestParam(required = false) String description) {
 
-        return ResponseEntity.ok(taskService.getAllTasks(page, size, title, description));
+        return ResponseEntity.ok(taskService.getTasksByCursor(after, limit, title, description));
+    }
+
+    @Operation(summary = "Get tasks slice", description = "Retrieves a page of tasks in ID order with hasNext instead of an exact total. The total is only included on request and is approximate.")
+    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<TaskResponseDto>> getTasksSlice(
+        @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Number of tasks per page") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+        @Parameter(description = "Filter by description") @RequestParam(required = false) String description,
+        @Parameter(description = "Include a cached approximate total") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(taskService.getTasksSlice(page, size, title, description, includeTotal));
+    }
+
+    @Operation(summary = "Get tasks changed since a token", description = "Returns tasks created, updated or re-assigned after the token and the IDs of tasks deleted after it, oldest first. Omit the token to start a full sync; pass nextToken back on the next call.")
+    @ApiResponse(responseCode = "200", description = "Changes retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid token or limit")
+    @ApiResponse(responseCode = "410", description = "Token is older than the tombstone retention; start a full sync")
+    @GetMapping("/changes")
+    public ResponseEntity<SyncResponseDto<TaskResponseDto>> getTaskChanges(
+        @Parameter(description = "nextToken returned by the previous call") @RequestParam(required = false) String since,
+        @Parameter(description = "Maximum number of changed and of deleted tasks to return") @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(syncService.getTaskChanges(since, limit));
+    }
+
+    @Operation(summary = "Export all tasks", description = "Streams every task with its assignment IDs as newline-delimited JSON, gzip-compressed when the client accepts it.")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, WebRequest request) {
+        streamingTimeout.applyTo(request);
+        return NdjsonResponses.attachment("tasks.ndjson", acceptEncoding, exportService::exportTasks);
     }
 
-    @Operation(summary = "Get task by ID", description = "Retrieves a task by its ID.")
+    @Operation(summary = "Get task by ID", description = "Retrieves a task by its ID. Responds with JSON, CBOR or Smile depending on Accept.")
     @ApiResponse(responseCode = "200", description = "Task found")
+    @ApiResponse(responseCode = "304", description = "Task not modified since the ETag in If-None-Match or If-Modified-Since")
     @ApiResponse(responseCode = "404", description = "Task not found")
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id, WebRequest request) {
+        TaskResponseDto task = taskService.getTaskById(id);
+        if (request.checkNotModified(ETags.item("task", task), ETags.lastModified(task))) {
+            return ETags.notModified();
+        }
+        return ETags.ok().body(task);
     }
 
     @Operation(summary = "Update task", description = "Updates an existing task by ID.")
@@ -1,7 +1,15 @@
 package com.example.anydeskapi.controllers;
 
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.PageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
+import com.example.anydeskapi.dtos.SyncResponseDto;
 import com.example.anydeskapi.dtos.UserRequestDto;
 import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.services.interfaces.ExportService;
+import com.example.anydeskapi.services.interfaces.SyncService;
 import com.example.anydeskapi.services.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,9 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/users")
@@ -19,6 +31,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "User Management", description = "CRUD operations for users")
 public class UserController {
     private final UserService userService;
+    private final ExportService exportService;
+    private final StreamingRequestTimeout streamingTimeout;
+    private final SyncService syncService;
 
     @Operation(summary = "Create a new user", description = "Creates a new user with a unique email and username.")
     @ApiResponse(responseCode = "201", description = "User successfully created")
@@ -29,23 +44,88 @@ public class UserController {
         return ResponseEntity.status(201).body(createdUser);
     }
 
-    @Operation(summary = "Get all users", description = "Retrieves a paginated list of users with optional filters.")
+    @Operation(summary = "Create users in batch", description = "Creates up to 1000 users in one request and reports a result for each item.")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results")
+    @ApiResponse(responseCode = "400", description = "Batch is empty or too large")
+    @ApiResponse(responseCode = "409", description = "An email was taken concurrently; nothing was created")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto> createUsers(@RequestBody List<UserRequestDto> requestDtos) {
+        return ResponseEntity.ok(userService.createUsers(requestDtos));
+    }
+
+    @Operation(summary = "Get all users", description = "Retrieves a paginated list of users with optional filters. Responds with JSON, CBOR or Smile depending on Accept.")
     @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Users not modified since the ETag in If-None-Match")
     @GetMapping
-    public ResponseEntity<Page<UserResponseDto>> getAllUsers(
+    public ResponseEntity<PageResponseDto<UserResponseDto>> getAllUsers(
         @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
         @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
         @Parameter(description = "Filter by username") @RequestParam(required = false) String username,
+        @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+        WebRequest request) {
+        CollectionVersion version = userService.getUsersVersion();
+        if (request.checkNotModified(ETags.collection("users", version, page, size, username, email))) {
+            return ETags.notModified();
+        }
+        return ETags.ok().body(PageResponseDto.of(userService.getAllUsers(page, size, username, email, version)));
+    }
+
+    @Operation(summary = "Get users by cursor", description = "Retrieves users in ID order after the given cursor, without counting the total.")
+    @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getUsersByCursor(
+        @Parameter(description = "Opaque cursor returned as nextCursor by the previous call") @RequestParam(required = false) String after,
+        @Parameter(description = "Maximum number of users to return") @RequestParam(defaultValue = "10") int limit,
+        @Parameter(description = "Filter by username") @RequestParam(required = false) String username,
         @Parameter(description = "Filter by email") @RequestParam(required = false) String email) {
-        return ResponseEntity.ok(userService.getAllUsers(page, size, username, email));
+        return ResponseEntity.ok(userService.getUsersByCursor(after, limit, username, email));
+    }
+
+    @Operation(summary = "Get users slice", description = "Retrieves a page of users in ID order with hasNext instead of an exact total. The total is only included on request and is approximate.")
+    @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponseDto<UserResponseDto>> getUsersSlice(
+        @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Number of users per page") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Filter by username") @RequestParam(required = false) String username,
+        @Parameter(description = "Filter by email") @RequestParam(required = false) String email,
+        @Parameter(description = "Include a cached approximate total") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.getUsersSlice(page, size, username, email, includeTotal));
+    }
+
+    @Operation(summary = "Get users changed since a token", description = "Returns users created, updated or re-assigned after the token and the IDs of users deleted after it, oldest first. Omit the token to start a full sync; pass nextToken back on the next call.")
+    @ApiResponse(responseCode = "200", description = "Changes retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid token or limit")
+    @ApiResponse(responseCode = "410", description = "Token is older than the tombstone retention; start a full sync")
+    @GetMapping("/changes")
+    public ResponseEntity<SyncResponseDto<UserResponseDto>> getUserChanges(
+        @Parameter(description = "nextToken returned by the previous call") @RequestParam(required = false) String since,
+        @Parameter(description = "Maximum number of changed and of deleted users to return") @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(syncService.getUserChanges(since, limit));
+    }
+
+    @Operation(summary = "Export all users", description = "Streams every user with its assignment IDs as newline-delimited JSON, gzip-compressed when the client accepts it.")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding, WebRequest request) {
+        streamingTimeout.applyTo(request);
+        return NdjsonResponses.attachment("users.ndjson", acceptEncoding, exportService::exportUsers);
     }
 
-    @Operation(summary = "Get user by ID", description = "Retrieves a user by their ID.")
+    @Operation(summary = "Get user by ID", description = "Retrieves a user by their ID. Responds with JSON, CBOR or Smile depending on Accept.")
     @ApiResponse(responseCode = "200", description = "User found")
+    @ApiResponse(responseCode = "304", description = "User not modified since the ETag in If-None-Match or If-Modified-Since")
     @ApiResponse(responseCode = "404", description = "User not found")
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long id, WebRequest request) {
+        UserResponseDto user = userService.getUserById(id);
+        if (request.checkNotModified(ETags.item("user", user), ETags.lastModified(user))) {
+            return ETags.notModified();
+        }
+        return ETags.ok().body(user);
     }
 
     @Operation(summary = "Update user", description = "Updates an existing user by ID.")
@@ -8,19 +8,24 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"))
 @Data
 @EntityListeners(AuditingEntityListener.class)
 public class TaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     private String title;
 
+    @Column(name = "title_key", unique = true, nullable = false)
+    private String titleKey;
+
     private String description;
 
     @CreatedDate
@@ -32,4 +37,13 @@ public class TaskEntity {
 
     @ManyToMany(mappedBy = "tasks")
     private List<UserEntity> assignedUsers;
+
+    public static String titleKeyOf(String title) {
+        return title == null ? null : title.toLowerCase(Locale.ROOT);
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.titleKey = titleKeyOf(title);
+    }
 }
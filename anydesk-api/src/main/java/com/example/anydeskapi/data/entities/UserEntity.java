@@ -8,21 +8,26 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"))
 @Data
 @EntityListeners(AuditingEntityListener.class)
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     private String username;
 
     private String email;
 
+    @Column(name = "email_key", unique = true, nullable = false)
+    private String emailKey;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -34,7 +39,18 @@ public class UserEntity {
     @JoinTable(
         name = "user_tasks",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "task_id")
+        inverseJoinColumns = @JoinColumn(name = "task_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_tasks_user_task", columnNames = {"user_id", "task_id"}),
+        indexes = @Index(name = "idx_user_tasks_task_id", columnList = "task_id")
     )
     private List<TaskEntity> tasks;
+
+    public static String emailKeyOf(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailKey = emailKeyOf(email);
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.anydeskapi.data.projections;
+
+public interface AssignmentLink {
+    Long getUserId();
+
+    Long getTaskId();
+}
@@ -0,0 +1,10 @@
+package com.example.anydeskapi.data.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Newest {@code updatedAt} among the rows and newest tombstone of one entity type. Both are read from an index, so
+ * the version can be checked on every request; deletes made without a tombstone are not reflected.
+ */
+public record CollectionVersion(LocalDateTime lastModified, LocalDateTime lastDeleted) {
+}
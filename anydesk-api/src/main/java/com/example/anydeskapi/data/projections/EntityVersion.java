@@ -0,0 +1,6 @@
+package com.example.anydeskapi.data.projections;
+
+import java.time.LocalDateTime;
+
+public record EntityVersion(Long id, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,4 @@
+package com.example.anydeskapi.data.projections;
+
+public record UserTaskLink(Long userId, Long taskId) {
+}
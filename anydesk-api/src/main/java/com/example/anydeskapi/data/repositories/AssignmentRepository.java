@@ -0,0 +1,68 @@
+package com.example.anydeskapi.data.repositories;
+
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class AssignmentRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Set<UserTaskLink> findExisting(Collection<Long> userIds, Collection<Long> taskIds) {
+        if (userIds.isEmpty() || taskIds.isEmpty()) {
+            return Set.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userIds", userIds)
+            .addValue("taskIds", taskIds);
+        return new HashSet<>(jdbcTemplate.query(
+            "select user_id, task_id from user_tasks where user_id in (:userIds) and task_id in (:taskIds)",
+            params,
+            (rs, rowNum) -> new UserTaskLink(rs.getLong("user_id"), rs.getLong("task_id"))));
+    }
+
+    public void insertAll(List<UserTaskLink> links) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+            "insert into user_tasks (user_id, task_id) values (?, ?)",
+            links,
+            BATCH_SIZE,
+            (ps, link) -> {
+                ps.setLong(1, link.userId());
+                ps.setLong(2, link.taskId());
+            });
+    }
+
+    /** Deletes the links and returns the ones that were actually present, since a concurrent removal may win the race. */
+    public Set<UserTaskLink> deleteAll(List<UserTaskLink> links) {
+        int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(
+            "delete from user_tasks where user_id = ? and task_id = ?",
+            links,
+            BATCH_SIZE,
+            (ps, link) -> {
+                ps.setLong(1, link.userId());
+                ps.setLong(2, link.taskId());
+            });
+        Set<UserTaskLink> deleted = new HashSet<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    deleted.add(links.get(index));
+                }
+                index++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.anydeskapi.data.repositories;
+
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Repository
+public class ExportRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource, @Value("${anydesk.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamTasks(Consumer<TaskResponseDto> consumer) {
+        stream("""
+                select t.id, t.title, t.description, ut.user_id as link_id
+                from tasks t
+                left join user_tasks ut on ut.task_id = t.id
+                order by t.id, ut.user_id
+                """,
+            (rs, rowNum) -> new TaskResponseDto(rs.getLong("id"), rs.getString("title"), rs.getString("description"), null, null),
+            (task, userIds) -> task.setAssignedUserIds(userIds.isEmpty() ? null : userIds),
+            consumer);
+    }
+
+    public void streamUsers(Consumer<UserResponseDto> consumer) {
+        stream("""
+                select u.id, u.username, u.email, ut.task_id as link_id
+                from users u
+                left join user_tasks ut on ut.user_id = u.id
+                order by u.id, ut.task_id
+                """,
+            (rs, rowNum) -> new UserResponseDto(rs.getLong("id"), rs.getString("username"), rs.getString("email"), null, null),
+            UserResponseDto::setTaskIds,
+            consumer);
+    }
+
+    // Links are handed over once a record is complete, so each type can shape them as EntityMapper does.
+    private <T> void stream(String sql, RowMapper<T> rowMapper, BiConsumer<T, List<Long>> setLinks, Consumer<T> consumer) {
+        jdbcTemplate.query(sql, (ResultSetExtractor<Void>) rs -> {
+            T current = null;
+            List<Long> links = null;
+            long currentId = 0;
+            int rowNum = 0;
+            while (rs.next()) {
+                long id = rs.getLong("id");
+                if (current == null || id != currentId) {
+                    if (current != null) {
+                        setLinks.accept(current, links);
+                        consumer.accept(current);
+                    }
+                    current = rowMapper.mapRow(rs, rowNum++);
+                    links = new ArrayList<>();
+                    currentId = id;
+                }
+                long linkId = rs.getLong("link_id");
+                if (!rs.wasNull()) {
+                    links.add(linkId);
+                }
+            }
+            if (current != null) {
+                setLinks.accept(current, links);
+                consumer.accept(current);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.anydeskapi.data.repositories;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveReadRepository {
+    private static final String SELECT_TASKS = "select id, title, description, updated_at from tasks";
+    private static final String SELECT_USERS = "select id, username, email, updated_at from users";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<TaskEntity> findTasks(String title, String description, long offset, int limit) {
+        Map<String, String> filters = new LinkedHashMap<>();
+        putContains(filters, "title", title);
+        putContains(filters, "description", description);
+        return page(SELECT_TASKS, filters, offset, limit)
+            .map(ReactiveReadRepository::toTask)
+            .all();
+    }
+
+    public Mono<TaskEntity> findTaskById(Long id) {
+        return databaseClient.sql(SELECT_TASKS + " where id = :id")
+            .bind("id", id)
+            .map(ReactiveReadRepository::toTask)
+            .one();
+    }
+
+    public Flux<UserEntity> findUsers(String username, String email, long offset, int limit) {
+        Map<String, String> filters = new LinkedHashMap<>();
+        putContains(filters, "username", username);
+        putContains(filters, "email", email);
+        return page(SELECT_USERS, filters, offset, limit)
+            .map(ReactiveReadRepository::toUser)
+            .all();
+    }
+
+    public Mono<UserEntity> findUserById(Long id) {
+        return databaseClient.sql(SELECT_USERS + " where id = :id")
+            .bind("id", id)
+            .map(ReactiveReadRepository::toUser)
+            .one();
+    }
+
+    public Flux<UserTaskLink> findAssignmentsByTaskIds(Collection<Long> taskIds) {
+        return findAssignments("task_id", taskIds);
+    }
+
+    public Flux<UserTaskLink> findAssignmentsByUserIds(Collection<Long> userIds) {
+        return findAssignments("user_id", userIds);
+    }
+
+    private Flux<UserTaskLink> findAssignments(String column, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("select user_id, task_id from user_tasks where " + column + " in (:ids)")
+            .bind("ids", ids)
+            .map(row -> new UserTaskLink(row.get("user_id", Long.class), row.get("task_id", Long.class)))
+            .all();
+    }
+
+    private DatabaseClient.GenericExecuteSpec page(String select, Map<String, String> filters, long offset, int limit) {
+        List<String> conditions = new ArrayList<>();
+        filters.keySet().forEach(column -> conditions.add("lower(" + column + ") like :" + column));
+        String sql = select
+            + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+            + " order by id limit :limit offset :offset";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+            .bind("limit", limit)
+            .bind("offset", offset);
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            spec = spec.bind(filter.getKey(), filter.getValue());
+        }
+        return spec;
+    }
+
+    private static void putContains(Map<String, String> filters, String column, String value) {
+        if (value != null) {
+            filters.put(column, "%" + value.toLowerCase() + "%");
+        }
+    }
+
+    private static TaskEntity toTask(Readable row) {
+        TaskEntity task = new TaskEntity();
+        task.setId(row.get("id", Long.class));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return task;
+    }
+
+    private static UserEntity toUser(Readable row) {
+        UserEntity user = new UserEntity();
+        user.setId(row.get("id", Long.class));
+        user.setUsername(row.get("username", String.class));
+        user.setEmail(row.get("email", String.class));
+        user.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return user;
+    }
+}
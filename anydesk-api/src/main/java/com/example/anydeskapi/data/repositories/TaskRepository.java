@@ -1,10 +1,67 @@
 package com.example.anydeskapi.data.repositories;
 
 import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.data.projections.EntityVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity> {
+    boolean existsByTitleKey(String titleKey);
+
+    boolean existsByTitleKeyAndIdNot(String titleKey, Long id);
+
+    @Query("select t.titleKey from TaskEntity t where t.titleKey in :titleKeys")
+    Set<String> findExistingTitleKeys(@Param("titleKeys") Collection<String> titleKeys);
+
+    @Query(value = """
+        select ut.user_id as "userId", ut.task_id as "taskId"
+        from user_tasks ut
+        where ut.task_id in (:taskIds)
+        """, nativeQuery = true)
+    List<AssignmentLink> findAssignmentsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("select t.id from TaskEntity t where t.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.anydeskapi.data.projections.EntityVersion(t.id, t.updatedAt) from TaskEntity t where t.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("""
+        select new com.example.anydeskapi.data.projections.CollectionVersion(
+            (select max(t.updatedAt) from TaskEntity t),
+            (select max(d.deletedAt) from TombstoneEntity d where d.entityType = 'task'))
+        """)
+    CollectionVersion findCollectionVersion();
+
+    @Modifying
+    @Query("update TaskEntity t set t.updatedAt = :updatedAt where t.id in :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(value = "select count(*) from user_tasks where task_id = :taskId", nativeQuery = true)
+    long countAssignments(@Param("taskId") Long taskId);
+
+    @Query("""
+        select t from TaskEntity t
+        where (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id))
+          and t.updatedAt <= :until
+        order by t.updatedAt, t.id
+        """)
+    List<TaskEntity> findChangedSince(@Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("id") long id,
+                                      @Param("until") LocalDateTime until,
+                                      Limit limit);
 }
@@ -0,0 +1,34 @@
+package com.example.anydeskapi.data.repositories;
+
+import com.example.anydeskapi.data.entities.TombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<TombstoneEntity, Long> {
+    @Query("""
+        select t from TombstoneEntity t
+        where t.entityType = :entityType
+          and (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.id > :id))
+          and t.deletedAt <= :until
+        order by t.deletedAt, t.id
+        """)
+    List<TombstoneEntity> findChangedSince(@Param("entityType") String entityType,
+                                           @Param("deletedAt") LocalDateTime deletedAt,
+                                           @Param("id") long id,
+                                           @Param("until") LocalDateTime until,
+                                           Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TombstoneEntity t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
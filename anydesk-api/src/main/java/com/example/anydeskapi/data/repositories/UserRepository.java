@@ -1,10 +1,76 @@
 package com.example.anydeskapi.data.repositories;
 
 import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.data.projections.EntityVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long>, JpaSpecificationExecutor<UserEntity> {
+    boolean existsByEmailKey(String emailKey);
+
+    boolean existsByEmailKeyAndIdNot(String emailKey, Long id);
+
+    @Query("select u.emailKey from UserEntity u where u.emailKey in :emailKeys")
+    Set<String> findExistingEmailKeys(@Param("emailKeys") Collection<String> emailKeys);
+
+    @Query(value = """
+        select ut.user_id as "userId", ut.task_id as "taskId"
+        from user_tasks ut
+        where ut.user_id in (:userIds)
+        """, nativeQuery = true)
+    List<AssignmentLink> findAssignmentsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("select u.id from UserEntity u where u.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.example.anydeskapi.data.projections.EntityVersion(u.id, u.updatedAt) from UserEntity u where u.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("""
+        select new com.example.anydeskapi.data.projections.CollectionVersion(
+            (select max(u.updatedAt) from UserEntity u),
+            (select max(d.deletedAt) from TombstoneEntity d where d.entityType = 'user'))
+        """)
+    CollectionVersion findCollectionVersion();
+
+    @Modifying
+    @Query("update UserEntity u set u.updatedAt = :updatedAt where u.id in :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(value = """
+        insert into user_tasks (user_id, task_id)
+        select :userId, :taskId
+        where not exists (select 1 from user_tasks where user_id = :userId and task_id = :taskId)
+        """, nativeQuery = true)
+    int insertAssignment(@Param("userId") Long userId, @Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "delete from user_tasks where user_id = :userId and task_id = :taskId", nativeQuery = true)
+    int deleteAssignment(@Param("userId") Long userId, @Param("taskId") Long taskId);
+
+    @Query("""
+        select u from UserEntity u
+        where (u.updatedAt > :updatedAt or (u.updatedAt = :updatedAt and u.id > :id))
+          and u.updatedAt <= :until
+        order by u.updatedAt, u.id
+        """)
+    List<UserEntity> findChangedSince(@Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("id") long id,
+                                      @Param("until") LocalDateTime until,
+                                      Limit limit);
 }
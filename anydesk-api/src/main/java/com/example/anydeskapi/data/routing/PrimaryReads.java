@@ -0,0 +1,50 @@
+package com.example.anydeskapi.data.routing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads whose results are cached and shared, such as list pages and counts, against the primary so a lagging
+ * replica cannot fill a cache with old rows. A request keeps the connection its first statement picked, so a read
+ * made from a replica-bound transaction gets its own read-only transaction on the primary.
+ */
+@Component
+public class PrimaryReads {
+    private final TransactionTemplate transaction;
+
+    /** Runs reads as they are, for when no replicas are configured. */
+    public PrimaryReads() {
+        this.transaction = null;
+    }
+
+    @Autowired
+    public PrimaryReads(ObjectProvider<ReplicaSet> replicaSet, PlatformTransactionManager transactionManager) {
+        if (replicaSet.getIfAvailable() == null) {
+            this.transaction = null;
+            return;
+        }
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transaction.setReadOnly(true);
+    }
+
+    public <T> T get(Supplier<T> read) {
+        if (transaction == null || onPrimaryAlready()) {
+            return read.get();
+        }
+        return ReadWriteRoutingDataSource.onPrimary(() -> transaction.execute(status -> read.get()));
+    }
+
+    private static boolean onPrimaryAlready() {
+        return ReadWriteRoutingDataSource.isPinned()
+            || TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.anydeskapi.data.routing;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReplicaSet replicaSet;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSet replicaSet) {
+        this.primary = primary;
+        this.replicaSet = replicaSet;
+        Map<Object, Object> targets = new HashMap<>(replicaSet.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Wraps the router in a lazy proxy. The JPA transaction manager asks for a connection before the read-only flag
+     * is bound to the thread, so the routing decision has to wait until the first statement.
+     */
+    public static DataSource lazy(DataSource primary, ReplicaSet replicaSet) {
+        return new LazyRoutingDataSource(new ReadWriteRoutingDataSource(primary, replicaSet));
+    }
+
+    /** Sends read-only transactions on this thread to the primary, e.g. right after the client wrote. */
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Runs {@code action} with read-only transactions pinned to the primary, restoring the previous pinning afterwards.
+     * Only connections first used inside {@code action} are affected.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            }
+        }
+    }
+
+    static boolean isPinned() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_PINNED.get() != null) {
+            return PRIMARY;
+        }
+        String replica = replicaSet.nextHealthy();
+        return replica == null ? PRIMARY : replica;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException ex) {
+            replicaSet.markDown((String) key);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static class LazyRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        private final ReadWriteRoutingDataSource router;
+
+        LazyRoutingDataSource(ReadWriteRoutingDataSource router) {
+            super(router);
+            this.router = router;
+        }
+
+        @Override
+        public void close() throws Exception {
+            router.close();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.anydeskapi.data.routing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reports the state of each read replica as seen by the last health check. It stays UP while replicas are down,
+ * because reads then fall back to the primary; failing readiness would take every instance out at once.
+ */
+@Component
+public class ReplicasHealthIndicator implements HealthIndicator {
+    private final ObjectProvider<ReplicaSet> replicaSet;
+
+    public ReplicasHealthIndicator(ObjectProvider<ReplicaSet> replicaSet) {
+        this.replicaSet = replicaSet;
+    }
+
+    @Override
+    public Health health() {
+        ReplicaSet replicas = replicaSet.getIfAvailable();
+        if (replicas == null) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        Map<String, Boolean> health = replicas.health();
+        long healthy = health.values().stream().filter(Boolean::booleanValue).count();
+        Health.Builder builder = Health.up()
+            .withDetail("healthy", healthy + "/" + health.size())
+            .withDetail("reads", healthy > 0 ? "replicas" : "primary");
+        health.forEach((name, up) -> builder.withDetail(name, up ? "UP" : "DOWN"));
+        return builder.build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.anydeskapi.data.schema;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Brings a database created by an earlier version up to what the entities expect, before Hibernate's
+ * {@code ddl-auto=update} runs. Every step is idempotent and skipped on an empty database, where Hibernate
+ * creates the schema itself.
+ */
+@Slf4j
+public class SchemaUpgrade {
+    // Matches the allocationSize of the entity sequence generators.
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DataSource dataSource;
+
+    public SchemaUpgrade(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void run() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            backfillKey(connection, "tasks", "title_key", "title");
+            backfillKey(connection, "users", "email_key", "email");
+            catchUpSequence(connection, "tasks", "tasks_seq");
+            catchUpSequence(connection, "users", "users_seq");
+        }
+    }
+
+    // Rows written before the key columns existed would otherwise keep a null key and escape the uniqueness check.
+    private static void backfillKey(Connection connection, String table, String keyColumn, String sourceColumn) throws SQLException {
+        if (!tableExists(connection, table)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter table " + table + " add column if not exists " + keyColumn + " varchar(255)");
+            int updated = statement.executeUpdate("update " + table + " set " + keyColumn + " = lower(" + sourceColumn + ")"
+                + " where " + keyColumn + " is null");
+            statement.execute("alter table " + table + " alter column " + keyColumn + " set not null");
+            if (updated > 0) {
+                log.info("Backfilled {}.{} for {} row(s)", table, keyColumn, updated);
+            }
+        }
+    }
+
+    // Ids used to come from identity columns, so a new or lagging sequence would hand out ids that are already taken.
+    // The pooled optimizer uses the block ending at the value it fetches, hence the first usable value is max + size.
+    private static void catchUpSequence(Connection connection, String table, String sequence) throws SQLException {
+        if (!tableExists(connection, table)) {
+            return;
+        }
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            result.next();
+            maxId = result.getLong(1);
+        }
+        if (maxId == 0) {
+            return;
+        }
+        long firstSafe = maxId + ID_ALLOCATION_SIZE;
+        Long upcoming = nextSequenceValue(connection, sequence);
+        try (Statement statement = connection.createStatement()) {
+            if (upcoming == null) {
+                statement.execute("create sequence " + sequence + " start with " + firstSafe + " increment by " + ID_ALLOCATION_SIZE);
+                log.info("Created {} starting after the existing {} id(s)", sequence, table);
+            } else if (upcoming < firstSafe) {
+                statement.execute("alter sequence " + sequence + " restart with " + firstSafe);
+                log.info("Moved {} from {} to {} past the existing {} id(s)", sequence, upcoming, firstSafe, table);
+            }
+        }
+    }
+
+    // The value the next nextval call returns, or null when the sequence does not exist yet.
+    private static Long nextSequenceValue(Connection connection, String sequence) throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+        String query = postgres
+            ? "select coalesce(last_value + increment_by, start_value) from pg_sequences"
+                + " where schemaname = current_schema() and sequencename = ?"
+            : "select base_value from information_schema.sequences"
+                + " where sequence_schema = current_schema() and upper(sequence_name) = upper(?)";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, sequence);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getLong(1) : null;
+            }
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
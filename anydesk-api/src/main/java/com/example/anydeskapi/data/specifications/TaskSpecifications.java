@@ -3,6 +3,8 @@ package com.example.anydeskapi.data.specifications;
 import com.example.anydeskapi.data.entities.TaskEntity;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public class TaskSpecifications {
     public static Specification<TaskEntity> hasTitle(String title) {
         return (root, query, cb) ->
@@ -13,4 +15,14 @@ public class TaskSpecifications {
         return (root, query, cb) ->
             description == null ? null : cb.like(cb.lower(root.get("description")), "%" + description.toLowerCase() + "%");
     }
+
+    public static Specification<TaskEntity> hasIdGreaterThan(Long id) {
+        return (root, query, cb) ->
+            id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<TaskEntity> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) ->
+            ids == null ? null : root.get("id").in(ids);
+    }
 }
@@ -3,6 +3,8 @@ package com.example.anydeskapi.data.specifications;
 import com.example.anydeskapi.data.entities.UserEntity;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public class UserSpecifications {
     public static Specification<UserEntity> hasUsername(String username) {
         return (root, query, cb) ->
@@ -13,4 +15,14 @@ public class UserSpecifications {
         return (root, query, cb) ->
             email == null ? null : cb.like(cb.lower(root.get("email")), "%" + email.toLowerCase() + "%");
     }
+
+    public static Specification<UserEntity> hasIdGreaterThan(Long id) {
+        return (root, query, cb) ->
+            id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+
+    public static Specification<UserEntity> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) ->
+            ids == null ? null : root.get("id").in(ids);
+    }
 }
@@ -0,0 +1,70 @@
+package com.example.anydeskapi.data.statistics;
+
+import lombok.Getter;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+public class StatementCounter implements QueryExecutionListener, MethodExecutionListener {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return;
+        }
+        counts.statements++;
+        if (execInfo.getResult() instanceof Integer updated) {
+            counts.rows += Math.max(0, updated);
+        } else if (execInfo.getResult() instanceof int[] updated) {
+            for (int count : updated) {
+                counts.rows += Math.max(0, count);
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        Counts counts = CURRENT.get();
+        if (counts != null
+            && executionContext.getTarget() instanceof ResultSet
+            && "next".equals(executionContext.getMethod().getName())
+            && Boolean.TRUE.equals(executionContext.getResult())) {
+            counts.rows++;
+        }
+    }
+
+    @Getter
+    public static class Counts {
+        private int statements;
+        private long rows;
+    }
+}
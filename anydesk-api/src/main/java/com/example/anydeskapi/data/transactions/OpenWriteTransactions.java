@@ -0,0 +1,49 @@
+package com.example.anydeskapi.data.transactions;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks when each read-write transaction on this instance began. Every {@code updatedAt} or {@code deletedAt} a
+ * transaction stamps is at or after its start, so rows stamped before the oldest open start are all settled.
+ */
+@Component
+public class OpenWriteTransactions implements TransactionExecutionListener {
+    private final Map<TransactionExecution, LocalDateTime> started = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (!transaction.isReadOnly()) {
+            started.put(transaction, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null) {
+            started.remove(transaction);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        started.remove(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        started.remove(transaction);
+    }
+
+    public Optional<LocalDateTime> oldestStart() {
+        return started.values().stream().min(Comparator.naturalOrder());
+    }
+}
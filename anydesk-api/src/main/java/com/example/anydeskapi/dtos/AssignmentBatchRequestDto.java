@@ -0,0 +1,16 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssignmentBatchRequestDto {
+    private List<AssignmentPairDto> pairs;
+    private List<Long> userIds;
+    private List<Long> taskIds;
+}
@@ -0,0 +1,16 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssignmentBatchResultDto {
+    private int applied;
+    private int skipped;
+    private List<AssignmentResultDto> results;
+}
@@ -0,0 +1,13 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssignmentPairDto {
+    private Long userId;
+    private Long taskId;
+}
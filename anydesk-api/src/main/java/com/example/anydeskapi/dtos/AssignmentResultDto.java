@@ -0,0 +1,14 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AssignmentResultDto {
+    private Long userId;
+    private Long taskId;
+    private AssignmentStatus status;
+}
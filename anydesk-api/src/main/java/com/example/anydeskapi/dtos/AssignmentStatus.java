@@ -0,0 +1,10 @@
+package com.example.anydeskapi.dtos;
+
+public enum AssignmentStatus {
+    CREATED,
+    ALREADY_PRESENT,
+    REMOVED,
+    NOT_ASSIGNED,
+    USER_NOT_FOUND,
+    TASK_NOT_FOUND
+}
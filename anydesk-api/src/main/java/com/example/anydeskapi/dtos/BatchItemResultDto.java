@@ -0,0 +1,23 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResultDto {
+    private int index;
+    private BatchItemStatus status;
+    private Long id;
+    private String error;
+
+    public static BatchItemResultDto created(int index, Long id) {
+        return new BatchItemResultDto(index, BatchItemStatus.CREATED, id, null);
+    }
+
+    public static BatchItemResultDto failed(int index, BatchItemStatus status, String error) {
+        return new BatchItemResultDto(index, status, null, error);
+    }
+}
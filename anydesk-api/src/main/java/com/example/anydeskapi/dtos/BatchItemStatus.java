@@ -0,0 +1,7 @@
+package com.example.anydeskapi.dtos;
+
+public enum BatchItemStatus {
+    CREATED,
+    INVALID,
+    DUPLICATE
+}
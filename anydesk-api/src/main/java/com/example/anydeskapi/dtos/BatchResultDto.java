@@ -0,0 +1,23 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResultDto {
+    private int created;
+    private int failed;
+    private List<BatchItemResultDto> results;
+
+    public static BatchResultDto of(List<BatchItemResultDto> results) {
+        int created = (int) results.stream()
+            .filter(result -> result.getStatus() == BatchItemStatus.CREATED)
+            .count();
+        return new BatchResultDto(created, results.size() - created, results);
+    }
+}
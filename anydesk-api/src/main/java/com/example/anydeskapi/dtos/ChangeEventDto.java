@@ -0,0 +1,19 @@
+package com.example.anydeskapi.dtos;
+
+import com.example.anydeskapi.events.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEventDto {
+    private String entity;
+    private ChangeType type;
+    private Long id;
+    private Object data;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportSummaryDto {
+    private long rows;
+    private long imported;
+    private long skipped;
+    private long failed;
+    private boolean complete;
+}
@@ -0,0 +1,29 @@
+package com.example.anydeskapi.dtos;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonPropertyOrder({"content", "number", "size", "numberOfElements", "totalElements", "totalPages", "first", "last"})
+public class PageResponseDto<T> {
+    private List<T> content;
+    private int number;
+    private int size;
+    private int numberOfElements;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(), page.getNumberOfElements(),
+            page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast());
+    }
+}
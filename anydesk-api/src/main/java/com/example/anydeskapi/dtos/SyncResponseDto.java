@@ -0,0 +1,17 @@
+package com.example.anydeskapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponseDto<T> {
+    private List<T> changed;
+    private List<Long> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -1,17 +1,24 @@
 package com.example.anydeskapi.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class TaskResponseDto {
+@JsonPropertyOrder({"id", "title", "description", "assignedUserIds"})
+public class TaskResponseDto implements VersionedDto {
     private Long id;
     private String title;
     private String description;
     private List<Long> assignedUserIds;
+
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
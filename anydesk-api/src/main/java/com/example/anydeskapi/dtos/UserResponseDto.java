@@ -1,17 +1,24 @@
 package com.example.anydeskapi.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class UserResponseDto {
+@JsonPropertyOrder({"id", "username", "email", "taskIds"})
+public class UserResponseDto implements VersionedDto {
     private Long id;
     private String username;
     private String email;
     private List<Long> taskIds;
+
+    @JsonIgnore
+    private LocalDateTime updatedAt;
 }
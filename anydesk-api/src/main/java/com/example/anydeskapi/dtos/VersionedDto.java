@@ -0,0 +1,13 @@
+package com.example.anydeskapi.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * A response whose content is fully determined by its entity's id and {@code updatedAt},
+ * which lets its encoded form be cached and reused.
+ */
+public interface VersionedDto {
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
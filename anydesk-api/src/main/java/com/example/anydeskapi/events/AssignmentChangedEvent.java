@@ -0,0 +1,6 @@
+package com.example.anydeskapi.events;
+
+import java.time.LocalDateTime;
+
+public record AssignmentChangedEvent(ChangeType type, Long userId, Long taskId, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,230 @@
+package com.example.anydeskapi.events;
+
+import com.example.anydeskapi.dtos.AssignmentPairDto;
+import com.example.anydeskapi.dtos.ChangeEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans committed task, user and assignment changes out to live subscribers. Each subscriber has a bounded
+ * buffer drained by its own virtual thread; a subscriber whose buffer overflows is disconnected so it cannot
+ * hold up the publisher. Recent changes are kept so a reconnecting client can resume from its last event ID.
+ */
+@Component
+@Slf4j
+public class ChangeFeed {
+    public static final String TASK = "task";
+    public static final String USER = "user";
+    public static final String ASSIGNMENT = "assignment";
+    public static final String RESET = "reset";
+
+    private static final Change HEARTBEAT = new Change(null, null);
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<Change> replay = new ArrayDeque<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter evictions;
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long sequence;
+
+    public ChangeFeed(MeterRegistry meterRegistry,
+                      @Value("${anydesk.changes.buffer-size:256}") int bufferSize,
+                      @Value("${anydesk.changes.replay-size:1000}") int replaySize,
+                      @Value("${anydesk.changes.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.evictions = meterRegistry.counter("anydesk.changes.evictions");
+        meterRegistry.gaugeCollectionSize("anydesk.changes.subscribers", List.of(), subscriptions);
+        heartbeats.scheduleWithFixedDelay(this::heartbeat,
+            heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts delivering changes to the sink. With a {@code lastEventId} from this process the changes after it
+     * are replayed first; if they are no longer retained, or the ID is unknown, a {@link #RESET} event tells the
+     * client to refetch before applying further changes.
+     */
+    public Subscription subscribe(String lastEventId, Sink sink) {
+        Subscription subscription = new Subscription(sink);
+        List<Change> backlog;
+        synchronized (this) {
+            backlog = backlogSince(lastEventId);
+            subscriptions.add(subscription);
+        }
+        subscription.start(backlog);
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(new ChangeEventDto(TASK, event.type(), event.taskId(), event.after(),
+            event.after() != null ? event.after().getUpdatedAt() : null));
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        publish(new ChangeEventDto(USER, event.type(), event.userId(), event.after(),
+            event.after() != null ? event.after().getUpdatedAt() : null));
+    }
+
+    @TransactionalEventListener
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        publish(new ChangeEventDto(ASSIGNMENT, event.type(), null, new AssignmentPairDto(event.userId(), event.taskId()),
+            event.updatedAt()));
+    }
+
+    private synchronized void publish(ChangeEventDto event) {
+        Change change = new Change(eventId(++sequence), event);
+        replay.addLast(change);
+        if (replay.size() > replaySize) {
+            replay.removeFirst();
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    private List<Change> backlogSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long last = sequenceOf(lastEventId);
+        long oldest = replay.isEmpty() ? sequence + 1 : sequenceOf(replay.getFirst().eventId());
+        if (last < 0 || last > sequence || last < oldest - 1) {
+            return List.of(new Change(sequence == 0 ? null : eventId(sequence), new ChangeEventDto(RESET, null, null, null, null)));
+        }
+        List<Change> backlog = new ArrayList<>();
+        for (Change change : replay) {
+            if (sequenceOf(change.eventId()) > last) {
+                backlog.add(change);
+            }
+        }
+        return backlog;
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    // IDs from a previous process (or malformed ones) map to -1 so the client is told to reset.
+    private long sequenceOf(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        subscriptions.forEach(Subscription::cancel);
+    }
+
+    public interface Sink {
+        void send(String eventId, ChangeEventDto event) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    private record Change(String eventId, ChangeEventDto event) {
+    }
+
+    public class Subscription {
+        private final Sink sink;
+        private final BlockingQueue<Change> queue = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean closed;
+        private volatile Thread drainer;
+
+        private Subscription(Sink sink) {
+            this.sink = sink;
+        }
+
+        public void cancel() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscriptions.remove(this);
+            if (drainer != null) {
+                drainer.interrupt();
+            }
+        }
+
+        private void start(List<Change> backlog) {
+            drainer = Thread.ofVirtual().name("change-feed-subscriber").start(() -> drain(backlog));
+        }
+
+        private void offer(Change change) {
+            if (!closed && !queue.offer(change)) {
+                log.warn("Disconnecting change feed subscriber that fell {} events behind", bufferSize);
+                evictions.increment();
+                cancel();
+            }
+        }
+
+        private void drain(List<Change> backlog) {
+            try {
+                for (Change change : backlog) {
+                    sink.send(change.eventId(), change.event());
+                }
+                while (!closed) {
+                    Change change = queue.take();
+                    if (change == HEARTBEAT) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(change.eventId(), change.event());
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ex) {
+                log.debug("Change feed subscriber went away: {}", ex.getMessage());
+            } finally {
+                cancel();
+                sink.close();
+            }
+        }
+    }
+}
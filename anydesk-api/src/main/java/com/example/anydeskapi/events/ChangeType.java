@@ -0,0 +1,7 @@
+package com.example.anydeskapi.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.example.anydeskapi.events;
+
+import com.example.anydeskapi.dtos.TaskResponseDto;
+
+public record TaskChangedEvent(ChangeType type, TaskResponseDto before, TaskResponseDto after) {
+    public Long taskId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.anydeskapi.events;
+
+import com.example.anydeskapi.dtos.UserResponseDto;
+
+public record UserChangedEvent(ChangeType type, UserResponseDto before, UserResponseDto after) {
+    public Long userId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.anydeskapi.filters;
+
+import com.example.anydeskapi.data.statistics.StatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RequestLoggingFilter extends OncePerRequestFilter {
+    private final double successSampleRate;
+    private final Duration slowThreshold;
+
+    public RequestLoggingFilter(double successSampleRate, Duration slowThreshold) {
+        this.successSampleRate = successSampleRate;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            int status = response.getStatus();
+            boolean slow = durationNanos >= slowThreshold.toNanos();
+            if (status >= 400 || slow || ThreadLocalRandom.current().nextDouble() < successSampleRate) {
+                log(request, status, durationNanos, slow);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long durationNanos, boolean slow) {
+        Level level = status >= 500 || slow ? Level.WARN : Level.INFO;
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        LoggingEventBuilder event = log.atLevel(level)
+            .addKeyValue("method", request.getMethod())
+            .addKeyValue("uri", pattern == null ? "UNKNOWN" : pattern)
+            .addKeyValue("path", request.getRequestURI())
+            .addKeyValue("status", status)
+            .addKeyValue("durationMs", durationMillis);
+        StatementCounter.Counts counts = StatementCounter.current();
+        if (counts != null) {
+            event = event.addKeyValue("sqlStatements", counts.getStatements()).addKeyValue("sqlRows", counts.getRows());
+        }
+        event.log("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status, durationMillis);
+    }
+}
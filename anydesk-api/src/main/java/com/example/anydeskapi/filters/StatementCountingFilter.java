@@ -0,0 +1,110 @@
+package com.example.anydeskapi.filters;
+
+import com.example.anydeskapi.data.statistics.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+@Slf4j
+public class StatementCountingFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+
+    public StatementCountingFilter(MeterRegistry meterRegistry, int budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        StatementCounter.Counts counts = StatementCounter.start();
+        try {
+            filterChain.doFilter(request, new CountingResponse(response, counts));
+        } finally {
+            StatementCounter.stop();
+            writeHeaders(response, counts);
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        meterRegistry.summary("anydesk.http.sql.statements", "method", request.getMethod(), "uri", uri)
+            .record(counts.getStatements());
+        meterRegistry.summary("anydesk.http.sql.rows", "method", request.getMethod(), "uri", uri)
+            .record(counts.getRows());
+
+        if (budget > 0 && counts.getStatements() > budget) {
+            log.warn("{} {} executed {} SQL statements ({} rows), over the budget of {}",
+                request.getMethod(), request.getRequestURI(), counts.getStatements(), counts.getRows(), budget);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, StatementCounter.Counts counts) {
+        if (!response.isCommitted()) {
+            response.setHeader(STATEMENTS_HEADER, String.valueOf(counts.getStatements()));
+            response.setHeader(ROWS_HEADER, String.valueOf(counts.getRows()));
+        }
+    }
+
+    // Headers have to be in place before the body starts, so they carry the counts seen up to that point.
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private final StatementCounter.Counts counts;
+
+        CountingResponse(HttpServletResponse response, StatementCounter.Counts counts) {
+            super(response);
+            this.counts = counts;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders(this, counts);
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders(this, counts);
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders(this, counts);
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders(this, counts);
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders(this, counts);
+            super.sendError(sc, msg);
+        }
+    }
+}
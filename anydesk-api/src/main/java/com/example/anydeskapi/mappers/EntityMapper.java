@@ -2,24 +2,34 @@ package com.example.anydeskapi.mappers;
 
 import com.example.anydeskapi.data.entities.TaskEntity;
 import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
 import com.example.anydeskapi.dtos.TaskRequestDto;
 import com.example.anydeskapi.dtos.TaskResponseDto;
 import com.example.anydeskapi.dtos.UserRequestDto;
 import com.example.anydeskapi.dtos.UserResponseDto;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public class EntityMapper {
     public static UserResponseDto mapToDto(UserEntity user) {
+        List<Long> taskIds = user.getTasks() == null ? null : user.getTasks()
+            .stream()
+            .map(TaskEntity::getId)
+            .toList();
+        return mapToDto(user, taskIds);
+    }
+
+    public static UserResponseDto mapToDto(UserEntity user, List<Long> taskIds) {
         UserResponseDto dto = new UserResponseDto();
         dto.setId(user.getId());
         dto.setUsername(user.getUsername());
         dto.setEmail(user.getEmail());
-
-        if (user.getTasks() != null) {
-            dto.setTaskIds(user.getTasks()
-                .stream()
-                .map(TaskEntity::getId)
-                .toList());
-        }
+        dto.setTaskIds(taskIds);
+        dto.setUpdatedAt(user.getUpdatedAt());
         return dto;
     }
 
@@ -31,18 +41,22 @@ public class EntityMapper {
     }
 
     public static TaskResponseDto mapToDto(TaskEntity task) {
+        List<Long> assignedUserIds = task.getAssignedUsers() == null ? null : task.getAssignedUsers()
+            .stream()
+            .map(UserEntity::getId)
+            .toList();
+        return mapToDto(task, assignedUserIds);
+    }
+
+    public static TaskResponseDto mapToDto(TaskEntity task, List<Long> assignedUserIds) {
         TaskResponseDto dto = new TaskResponseDto();
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
         dto.setDescription(task.getDescription());
+        dto.setUpdatedAt(task.getUpdatedAt());
 
-        if (task.getAssignedUsers() != null && !task.getAssignedUsers().isEmpty()) {
-            dto.setAssignedUserIds(
-                task.getAssignedUsers()
-                    .stream()
-                    .map(UserEntity::getId)
-                    .toList()
-            );
+        if (assignedUserIds != null && !assignedUserIds.isEmpty()) {
+            dto.setAssignedUserIds(assignedUserIds);
         }
         return dto;
     }
@@ -53,4 +67,11 @@ public class EntityMapper {
         task.setDescription(dto.getDescription());
         return task;
     }
+
+    public static Map<Long, List<Long>> groupAssignments(Collection<AssignmentLink> links,
+                                                         Function<AssignmentLink, Long> keyMapper,
+                                                         Function<AssignmentLink, Long> valueMapper) {
+        return links.stream()
+            .collect(Collectors.groupingBy(keyMapper, Collectors.mapping(valueMapper, Collectors.toList())));
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.anydeskapi.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of a delta sync: the last changed row seen, as {@code (updatedAt, id)}, and the last tombstone seen,
+ * as {@code (deletedAt, id)}. Both only move forward.
+ */
+public record SyncToken(LocalDateTime changedAt, long changedId, LocalDateTime deletedAt, long deletedId) {
+    private static final String PREFIX = "sync1:";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Starts a full sync: every existing row is returned, and only deletions after {@code cutoff} are reported,
+     * since rows deleted earlier are not part of the snapshot anyway.
+     */
+    public static SyncToken initial(LocalDateTime cutoff) {
+        return new SyncToken(BEGINNING, 0, cutoff, Long.MAX_VALUE);
+    }
+
+    public String encode() {
+        String raw = PREFIX + changedAt + "|" + changedId + "|" + deletedAt + "|" + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Unknown sync token format");
+            }
+            String[] parts = decoded.substring(PREFIX.length()).split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unknown sync token format");
+            }
+            return new SyncToken(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sync token.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.anydeskapi.search;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.specifications.TaskSpecifications;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class TaskSearchIndex extends TrigramSearchIndex<TaskEntity, TaskResponseDto> {
+    private final TaskRepository taskRepository;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           @Value("${anydesk.search.ngram.enabled:false}") boolean enabled,
+                           @Value("${anydesk.search.ngram.max-candidates:1000}") int maxCandidates,
+                           @Value("${anydesk.search.ngram.rebuild-interval:5m}") Duration rebuildInterval) {
+        super("Task", enabled, maxCandidates, rebuildInterval,
+            TaskEntity::getId, TaskEntity::getTitle, TaskEntity::getDescription,
+            TaskResponseDto::getId, TaskResponseDto::getTitle, TaskResponseDto::getDescription);
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    protected List<TaskEntity> loadBatch(Long afterId, int limit) {
+        return taskRepository.findBy(TaskSpecifications.hasIdGreaterThan(afterId), query -> query
+            .sortBy(Sort.by("id"))
+            .limit(limit)
+            .all());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        apply(event.before(), event.after());
+    }
+}
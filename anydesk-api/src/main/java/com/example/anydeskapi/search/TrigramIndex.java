@@ -0,0 +1,117 @@
+package com.example.anydeskapi.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(long id, String text) {
+        long[] keys = trigramKeys(text);
+        lock.writeLock().lock();
+        try {
+            for (long key : keys) {
+                postings.computeIfAbsent(key, k -> new LongPostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id, String text) {
+        long[] keys = trigramKeys(text);
+        lock.writeLock().lock();
+        try {
+            for (long key : keys) {
+                LongPostingList list = postings.get(key);
+                if (list != null && list.remove(id) && list.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sorted IDs whose text contains every trigram of the query, or {@code null}
+     * when the query is too short to be answered by the index. Candidates may still not contain
+     * the query as a contiguous substring, so callers must re-check them.
+     */
+    public long[] search(String query) {
+        long[] keys = trigramKeys(query);
+        if (keys.length == 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            List<LongPostingList> lists = Arrays.stream(keys)
+                .mapToObj(postings::get)
+                .toList();
+            if (lists.contains(null)) {
+                return new long[0];
+            }
+            List<LongPostingList> smallestFirst = lists.stream()
+                .sorted(Comparator.comparingInt(LongPostingList::size))
+                .toList();
+            long[] result = smallestFirst.get(0).toArray();
+            for (int i = 1; i < smallestFirst.size() && result.length > 0; i++) {
+                result = LongPostingList.intersect(result, smallestFirst.get(i).toArray());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static long[] intersectCandidates(long[] left, long[] right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return LongPostingList.intersect(left, right);
+    }
+
+    static long[] trigramKeys(String text) {
+        if (text == null || text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        long[] keys = new long[normalized.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) normalized.charAt(i) << 32)
+                | ((long) normalized.charAt(i + 1) << 16)
+                | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(keys).distinct().toArray();
+    }
+}
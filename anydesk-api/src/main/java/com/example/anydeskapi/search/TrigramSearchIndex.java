@@ -0,0 +1,185 @@
+package com.example.anydeskapi.search;
+
+import com.example.anydeskapi.data.routing.ReadWriteRoutingDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * In-memory trigram index over two text fields of an entity, used to narrow substring searches to candidate ids.
+ * The index is kept current by the change events of this instance, so writes made on other instances or outside
+ * the services are only picked up by the rebuild that runs every {@code rebuildInterval}.
+ *
+ * @param <E> the entity read when rebuilding
+ * @param <D> the DTO carried by change events
+ */
+@Slf4j
+public abstract class TrigramSearchIndex<E, D> {
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final String name;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final Function<E, Long> entityId;
+    private final Function<E, String> entityFirst;
+    private final Function<E, String> entitySecond;
+    private final Function<D, Long> dtoId;
+    private final Function<D, String> dtoFirst;
+    private final Function<D, String> dtoSecond;
+    private final ScheduledExecutorService rebuilder;
+    private final Object lock = new Object();
+    private volatile Fields current;
+    private Fields building;
+
+    protected TrigramSearchIndex(String name, boolean enabled, int maxCandidates, Duration rebuildInterval,
+                                 Function<E, Long> entityId, Function<E, String> entityFirst, Function<E, String> entitySecond,
+                                 Function<D, Long> dtoId, Function<D, String> dtoFirst, Function<D, String> dtoSecond) {
+        this.name = name;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.entityId = entityId;
+        this.entityFirst = entityFirst;
+        this.entitySecond = entitySecond;
+        this.dtoId = dtoId;
+        this.dtoFirst = dtoFirst;
+        this.dtoSecond = dtoSecond;
+        if (enabled && !rebuildInterval.isZero()) {
+            rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name + "-index-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = rebuildInterval.toMillis();
+            rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            rebuilder = null;
+        }
+    }
+
+    /** Loads up to {@code limit} entities with an id greater than {@code afterId} (or from the start when null), ordered by id. */
+    protected abstract List<E> loadBatch(Long afterId, int limit);
+
+    public Optional<List<Long>> findCandidateIds(String first, String second) {
+        Fields fields = current;
+        if (fields == null) {
+            return Optional.empty();
+        }
+        long[] candidates = TrigramIndex.intersectCandidates(fields.first.search(first), fields.second.search(second));
+        if (candidates == null || candidates.length > maxCandidates) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(candidates).boxed().toList());
+    }
+
+    // Builds into a fresh index and swaps it in, so searches keep using the previous one meanwhile. Changes that
+    // commit during the rebuild are applied to both, and win over the batch rows of the same id, which may have
+    // been read before the change committed. The swap and apply() share a lock, so no change misses both.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        Fields fields = new Fields();
+        synchronized (lock) {
+            building = fields;
+        }
+
+        long indexed = 0;
+        Long lastId = null;
+        List<E> batch;
+        try {
+            do {
+                Long after = lastId;
+                batch = ReadWriteRoutingDataSource.onPrimary(() -> loadBatch(after, REBUILD_BATCH_SIZE));
+                synchronized (lock) {
+                    for (E entity : batch) {
+                        lastId = entityId.apply(entity);
+                        if (!fields.changed.contains(lastId)) {
+                            fields.first.add(lastId, entityFirst.apply(entity));
+                            fields.second.add(lastId, entitySecond.apply(entity));
+                        }
+                    }
+                }
+                indexed += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            synchronized (lock) {
+                current = fields;
+                building = null;
+                fields.changed.clear();
+            }
+        } finally {
+            synchronized (lock) {
+                if (building == fields) {
+                    building = null;
+                }
+            }
+        }
+
+        log.info("{} search index rebuilt with {} row(s) and {} trigram(s) in {} ms",
+            name, indexed, fields.first.termCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    protected void apply(D before, D after) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            for (Fields fields : new Fields[]{current, building}) {
+                if (fields == null) {
+                    continue;
+                }
+                if (fields == building) {
+                    if (before != null) {
+                        fields.changed.add(dtoId.apply(before));
+                    }
+                    if (after != null) {
+                        fields.changed.add(dtoId.apply(after));
+                    }
+                }
+                if (before != null) {
+                    fields.first.remove(dtoId.apply(before), dtoFirst.apply(before));
+                    fields.second.remove(dtoId.apply(before), dtoSecond.apply(before));
+                }
+                if (after != null) {
+                    fields.first.add(dtoId.apply(after), dtoFirst.apply(after));
+                    fields.second.add(dtoId.apply(after), dtoSecond.apply(after));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("{} search index rebuild failed, keeping the previous index", name, e);
+        }
+    }
+
+    private static class Fields {
+        final TrigramIndex first = new TrigramIndex();
+        final TrigramIndex second = new TrigramIndex();
+        // Ids changed by apply() while this index was being built; only read during the build.
+        final Set<Long> changed = new HashSet<>();
+    }
+}
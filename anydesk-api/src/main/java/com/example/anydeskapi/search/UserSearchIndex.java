@@ -0,0 +1,42 @@
+package com.example.anydeskapi.search;
+
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.specifications.UserSpecifications;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.events.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class UserSearchIndex extends TrigramSearchIndex<UserEntity, UserResponseDto> {
+    private final UserRepository userRepository;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           @Value("${anydesk.search.ngram.enabled:false}") boolean enabled,
+                           @Value("${anydesk.search.ngram.max-candidates:1000}") int maxCandidates,
+                           @Value("${anydesk.search.ngram.rebuild-interval:5m}") Duration rebuildInterval) {
+        super("User", enabled, maxCandidates, rebuildInterval,
+            UserEntity::getId, UserEntity::getUsername, UserEntity::getEmail,
+            UserResponseDto::getId, UserResponseDto::getUsername, UserResponseDto::getEmail);
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    protected List<UserEntity> loadBatch(Long afterId, int limit) {
+        return userRepository.findBy(UserSpecifications.hasIdGreaterThan(afterId), query -> query
+            .sortBy(Sort.by("id"))
+            .limit(limit)
+            .all());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        apply(event.before(), event.after());
+    }
+}
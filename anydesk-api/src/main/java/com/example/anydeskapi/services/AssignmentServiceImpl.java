@@ -0,0 +1,163 @@
+package com.example.anydeskapi.services;
+
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import com.example.anydeskapi.data.repositories.AssignmentRepository;
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+import com.example.anydeskapi.dtos.AssignmentPairDto;
+import com.example.anydeskapi.dtos.AssignmentResultDto;
+import com.example.anydeskapi.dtos.AssignmentStatus;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.services.interfaces.AssignmentService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Timed(value = "anydesk.service", histogram = true)
+@Slf4j
+public class AssignmentServiceImpl implements AssignmentService {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final AssignmentRepository assignmentRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public AssignmentBatchResultDto assignTasks(AssignmentBatchRequestDto requestDto) {
+        List<UserTaskLink> links = expand(requestDto);
+        log.debug("Received request to assign {} user/task pair(s)", links.size());
+
+        List<AssignmentResultDto> results = new ArrayList<>(links.size());
+        List<UserTaskLink> toInsert = new ArrayList<>();
+        classify(links, results, toInsert, AssignmentStatus.CREATED, AssignmentStatus.ALREADY_PRESENT, true);
+
+        try {
+            assignmentRepository.insertAll(toInsert);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot assign tasks in batch. Assignments changed concurrently.");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Assignments changed concurrently. Please retry.");
+        }
+        LocalDateTime now = touch(toInsert);
+        toInsert.forEach(link ->
+            eventPublisher.publishEvent(new AssignmentChangedEvent(ChangeType.CREATED, link.userId(), link.taskId(), now)));
+
+        log.debug("Assigned {} of {} user/task pair(s)", toInsert.size(), links.size());
+        return new AssignmentBatchResultDto(toInsert.size(), links.size() - toInsert.size(), results);
+    }
+
+    @Override
+    public AssignmentBatchResultDto removeTasks(AssignmentBatchRequestDto requestDto) {
+        List<UserTaskLink> links = expand(requestDto);
+        log.debug("Received request to remove {} user/task pair(s)", links.size());
+
+        List<AssignmentResultDto> results = new ArrayList<>(links.size());
+        List<UserTaskLink> toDelete = new ArrayList<>();
+        classify(links, results, toDelete, AssignmentStatus.REMOVED, AssignmentStatus.NOT_ASSIGNED, false);
+
+        Set<UserTaskLink> deleted = assignmentRepository.deleteAll(toDelete);
+        if (deleted.size() < toDelete.size()) {
+            // Pairs removed by a concurrent request between the lookup and the delete were not removed by this one.
+            for (AssignmentResultDto result : results) {
+                if (result.getStatus() == AssignmentStatus.REMOVED
+                    && !deleted.contains(new UserTaskLink(result.getUserId(), result.getTaskId()))) {
+                    result.setStatus(AssignmentStatus.NOT_ASSIGNED);
+                }
+            }
+            toDelete.retainAll(deleted);
+        }
+        LocalDateTime now = touch(toDelete);
+        toDelete.forEach(link ->
+            eventPublisher.publishEvent(new AssignmentChangedEvent(ChangeType.DELETED, link.userId(), link.taskId(), now)));
+
+        log.debug("Removed {} of {} user/task pair(s)", toDelete.size(), links.size());
+        return new AssignmentBatchResultDto(toDelete.size(), links.size() - toDelete.size(), results);
+    }
+
+    private LocalDateTime touch(List<UserTaskLink> links) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!links.isEmpty()) {
+            userRepository.touch(links.stream().map(UserTaskLink::userId).collect(Collectors.toSet()), now);
+            taskRepository.touch(links.stream().map(UserTaskLink::taskId).collect(Collectors.toSet()), now);
+        }
+        return now;
+    }
+
+    private void classify(List<UserTaskLink> links, List<AssignmentResultDto> results, List<UserTaskLink> toApply,
+                          AssignmentStatus applied, AssignmentStatus skipped, boolean applyWhenMissing) {
+        Set<Long> userIds = links.stream().map(UserTaskLink::userId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> taskIds = links.stream().map(UserTaskLink::taskId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : userRepository.findExistingIds(userIds);
+        Set<Long> existingTaskIds = taskIds.isEmpty() ? Set.of() : taskRepository.findExistingIds(taskIds);
+        Set<UserTaskLink> existingLinks = assignmentRepository.findExisting(existingUserIds, existingTaskIds);
+
+        for (UserTaskLink link : links) {
+            AssignmentStatus status;
+            if (!existingUserIds.contains(link.userId())) {
+                status = AssignmentStatus.USER_NOT_FOUND;
+            } else if (!existingTaskIds.contains(link.taskId())) {
+                status = AssignmentStatus.TASK_NOT_FOUND;
+            } else if (existingLinks.contains(link) != applyWhenMissing) {
+                status = applied;
+                toApply.add(link);
+            } else {
+                status = skipped;
+            }
+            results.add(new AssignmentResultDto(link.userId(), link.taskId(), status));
+        }
+    }
+
+    private List<UserTaskLink> expand(AssignmentBatchRequestDto requestDto) {
+        boolean hasPairs = requestDto != null && requestDto.getPairs() != null && !requestDto.getPairs().isEmpty();
+        boolean hasCrossProduct = requestDto != null
+            && requestDto.getUserIds() != null && !requestDto.getUserIds().isEmpty()
+            && requestDto.getTaskIds() != null && !requestDto.getTaskIds().isEmpty();
+        if (hasPairs == hasCrossProduct) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide either pairs or both userIds and taskIds.");
+        }
+
+        long size = hasPairs
+            ? requestDto.getPairs().size()
+            : (long) requestDto.getUserIds().size() * requestDto.getTaskIds().size();
+        if (size > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain at most " + MAX_BATCH_SIZE + " pairs.");
+        }
+
+        Set<UserTaskLink> links = new LinkedHashSet<>();
+        if (hasPairs) {
+            for (AssignmentPairDto pair : requestDto.getPairs()) {
+                if (pair != null) {
+                    links.add(new UserTaskLink(pair.getUserId(), pair.getTaskId()));
+                }
+            }
+        } else {
+            for (Long userId : requestDto.getUserIds()) {
+                for (Long taskId : requestDto.getTaskIds()) {
+                    links.add(new UserTaskLink(userId, taskId));
+                }
+            }
+        }
+        return new ArrayList<>(links);
+    }
+}
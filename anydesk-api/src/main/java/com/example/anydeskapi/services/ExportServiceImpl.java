@@ -0,0 +1,62 @@
+package com.example.anydeskapi.services;
+
+import com.example.anydeskapi.data.repositories.ExportRepository;
+import com.example.anydeskapi.services.interfaces.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportTasks(OutputStream out) throws IOException {
+        log.info("Starting NDJSON export of tasks");
+        long exported = writeNdjson(out, exportRepository::streamTasks);
+        log.info("Exported {} task(s)", exported);
+    }
+
+    @Override
+    public void exportUsers(OutputStream out) throws IOException {
+        log.info("Starting NDJSON export of users");
+        long exported = writeNdjson(out, exportRepository::streamUsers);
+        log.info("Exported {} user(s)", exported);
+    }
+
+    private <T> long writeNdjson(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long[] exported = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            source.accept(item -> {
+                try {
+                    writer.writeValue(generator, item);
+                    generator.writeRaw('\n');
+                    exported[0]++;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return exported[0];
+    }
+}
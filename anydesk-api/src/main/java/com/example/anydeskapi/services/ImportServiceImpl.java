@@ -0,0 +1,215 @@
+package com.example.anydeskapi.services;
+
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+import com.example.anydeskapi.dtos.AssignmentPairDto;
+import com.example.anydeskapi.dtos.AssignmentResultDto;
+import com.example.anydeskapi.dtos.AssignmentStatus;
+import com.example.anydeskapi.dtos.BatchItemStatus;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.ImportFormat;
+import com.example.anydeskapi.dtos.ImportRowErrorDto;
+import com.example.anydeskapi.dtos.ImportSummaryDto;
+import com.example.anydeskapi.dtos.TaskRequestDto;
+import com.example.anydeskapi.dtos.UserRequestDto;
+import com.example.anydeskapi.services.interfaces.AssignmentService;
+import com.example.anydeskapi.services.interfaces.ImportService;
+import com.example.anydeskapi.services.interfaces.TaskService;
+import com.example.anydeskapi.services.interfaces.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private final TaskService taskService;
+    private final UserService userService;
+    private final AssignmentService assignmentService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final int chunkSize;
+
+    public ImportServiceImpl(TaskService taskService, UserService userService, AssignmentService assignmentService,
+                             ObjectMapper objectMapper, @Value("${anydesk.import.chunk-size:500}") int chunkSize) {
+        this.taskService = taskService;
+        this.userService = userService;
+        this.assignmentService = assignmentService;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void importTasks(InputStream in, ImportFormat format, OutputStream report) throws IOException {
+        log.info("Starting {} import of tasks", format);
+        ImportSummaryDto summary = importRows(in, format, TaskRequestDto.class, report,
+            (chunk, firstRow, errors) -> report(taskService.createTasks(chunk), firstRow, errors));
+        log.info("Task import finished: {}", summary);
+    }
+
+    @Override
+    public void importUsers(InputStream in, ImportFormat format, OutputStream report) throws IOException {
+        log.info("Starting {} import of users", format);
+        ImportSummaryDto summary = importRows(in, format, UserRequestDto.class, report,
+            (chunk, firstRow, errors) -> report(userService.createUsers(chunk), firstRow, errors));
+        log.info("User import finished: {}", summary);
+    }
+
+    @Override
+    public void importAssignments(InputStream in, ImportFormat format, OutputStream report) throws IOException {
+        log.info("Starting {} import of assignments", format);
+        ImportSummaryDto summary = importRows(in, format, AssignmentPairDto.class, report, this::importAssignmentChunk);
+        log.info("Assignment import finished: {}", summary);
+    }
+
+    private long report(BatchResultDto result, long firstRow, Consumer<ImportRowErrorDto> errors) {
+        result.getResults().stream()
+            .filter(item -> item.getStatus() != BatchItemStatus.CREATED)
+            .forEach(item -> errors.accept(new ImportRowErrorDto(firstRow + item.getIndex(), item.getStatus().name(), item.getError())));
+        return result.getCreated();
+    }
+
+    private long importAssignmentChunk(List<AssignmentPairDto> chunk, long firstRow, Consumer<ImportRowErrorDto> errors) {
+        AssignmentBatchRequestDto request = new AssignmentBatchRequestDto();
+        request.setPairs(chunk);
+        AssignmentBatchResultDto result = assignmentService.assignTasks(request);
+
+        Map<UserTaskLink, AssignmentStatus> statuses = new HashMap<>();
+        for (AssignmentResultDto item : result.getResults()) {
+            statuses.put(new UserTaskLink(item.getUserId(), item.getTaskId()), item.getStatus());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            AssignmentPairDto pair = chunk.get(i);
+            AssignmentStatus status = pair == null ? null : statuses.get(new UserTaskLink(pair.getUserId(), pair.getTaskId()));
+            if (status == null) {
+                errors.accept(new ImportRowErrorDto(firstRow + i, BatchItemStatus.INVALID.name(), "Row is empty."));
+            } else if (status == AssignmentStatus.USER_NOT_FOUND) {
+                errors.accept(new ImportRowErrorDto(firstRow + i, status.name(), "User not found"));
+            } else if (status == AssignmentStatus.TASK_NOT_FOUND) {
+                errors.accept(new ImportRowErrorDto(firstRow + i, status.name(), "Task not found"));
+            }
+        }
+        return result.getApplied();
+    }
+
+    private <T> ImportSummaryDto importRows(InputStream in, ImportFormat format, Class<T> type, OutputStream out,
+                                            ChunkImporter<T> importer) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator report = objectMapper.getFactory().createGenerator(out);
+             MappingIterator<T> rows = reader(format, type).readValues(in)) {
+            report.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            report.setRootValueSeparator(null);
+
+            long[] failed = {0};
+            Consumer<ImportRowErrorDto> errors = error -> {
+                failed[0]++;
+                writeLine(writer, report, error);
+            };
+
+            List<T> chunk = new ArrayList<>(chunkSize);
+            long rowCount = 0;
+            long imported = 0;
+            String parseError = null;
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    chunk.add(rows.nextValue());
+                } catch (JsonMappingException ex) {
+                    // The row was read but its values do not fit the type; the reader resumes at the next row.
+                    // The chunk so far is imported first so that it keeps covering consecutive rows.
+                    if (!chunk.isEmpty()) {
+                        imported += importChunk(chunk, rowCount - chunk.size() + 1, importer, errors);
+                        chunk.clear();
+                    }
+                    rowCount++;
+                    errors.accept(new ImportRowErrorDto(rowCount, BatchItemStatus.INVALID.name(), ex.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException ex) {
+                    parseError = ex.getOriginalMessage();
+                    break;
+                }
+                rowCount++;
+                if (chunk.size() == chunkSize) {
+                    imported += importChunk(chunk, rowCount - chunk.size() + 1, importer, errors);
+                    chunk.clear();
+                    report.flush();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk, rowCount - chunk.size() + 1, importer, errors);
+            }
+            if (parseError != null) {
+                log.warn("Import stopped at row {}: {}", rowCount + 1, parseError);
+                errors.accept(new ImportRowErrorDto(rowCount + 1, "UNPARSEABLE", parseError));
+            }
+
+            ImportSummaryDto summary = new ImportSummaryDto(rowCount, imported,
+                rowCount - imported - failed[0] + (parseError == null ? 0 : 1), failed[0], parseError == null);
+            writeLine(writer, report, summary);
+            return summary;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private <T> long importChunk(List<T> chunk, long firstRow, ChunkImporter<T> importer, Consumer<ImportRowErrorDto> errors) {
+        try {
+            return importer.importChunk(chunk, firstRow, errors);
+        } catch (ResponseStatusException ex) {
+            log.warn("Import chunk starting at row {} was rejected: {}", firstRow, ex.getReason());
+            for (int i = 0; i < chunk.size(); i++) {
+                errors.accept(new ImportRowErrorDto(firstRow + i, "REJECTED", ex.getReason()));
+            }
+            return 0;
+        }
+    }
+
+    private ObjectReader reader(ImportFormat format, Class<?> type) {
+        return format == ImportFormat.CSV
+            ? csvMapper.readerFor(type).with(CsvSchema.emptySchema().withHeader())
+            : objectMapper.readerFor(type);
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkImporter<T> {
+        long importChunk(List<T> chunk, long firstRow, Consumer<ImportRowErrorDto> errors);
+    }
+}
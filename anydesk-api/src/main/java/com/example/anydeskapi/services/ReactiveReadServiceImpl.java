@@ -0,0 +1,83 @@
+package com.example.anydeskapi.services;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import com.example.anydeskapi.data.repositories.ReactiveReadRepository;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.mappers.EntityMapper;
+import com.example.anydeskapi.services.interfaces.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private static final int ASSIGNMENT_LOOKUP_BATCH_SIZE = 100;
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    @Override
+    public Flux<TaskResponseDto> getTasks(int page, int size, String title, String description) {
+        if (page < 0 || size < 1) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be >= 0 and size >= 1."));
+        }
+        return reactiveReadRepository.findTasks(title, description, (long) page * size, size)
+            .buffer(ASSIGNMENT_LOOKUP_BATCH_SIZE)
+            .concatMap(tasks -> reactiveReadRepository
+                .findAssignmentsByTaskIds(tasks.stream().map(TaskEntity::getId).toList())
+                .collectMultimap(UserTaskLink::taskId, UserTaskLink::userId)
+                .flatMapIterable(assignedUserIds -> tasks.stream()
+                    .map(task -> EntityMapper.mapToDto(task, toList(assignedUserIds.get(task.getId()))))
+                    .toList()));
+    }
+
+    @Override
+    public Mono<TaskResponseDto> getTaskById(Long id) {
+        return reactiveReadRepository.findTaskById(id)
+            .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found")))
+            .flatMap(task -> reactiveReadRepository.findAssignmentsByTaskIds(List.of(id))
+                .map(UserTaskLink::userId)
+                .collectList()
+                .map(assignedUserIds -> EntityMapper.mapToDto(task, assignedUserIds)));
+    }
+
+    @Override
+    public Flux<UserResponseDto> getUsers(int page, int size, String username, String email) {
+        if (page < 0 || size < 1) {
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must be >= 0 and size >= 1."));
+        }
+        return reactiveReadRepository.findUsers(username, email, (long) page * size, size)
+            .buffer(ASSIGNMENT_LOOKUP_BATCH_SIZE)
+            .concatMap(users -> reactiveReadRepository
+                .findAssignmentsByUserIds(users.stream().map(UserEntity::getId).toList())
+                .collectMultimap(UserTaskLink::userId, UserTaskLink::taskId)
+                .flatMapIterable(taskIds -> users.stream()
+                    .map(user -> EntityMapper.mapToDto(user, taskIds.containsKey(user.getId()) ? toList(taskIds.get(user.getId())) : List.of()))
+                    .toList()));
+    }
+
+    @Override
+    public Mono<UserResponseDto> getUserById(Long id) {
+        return reactiveReadRepository.findUserById(id)
+            .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")))
+            .flatMap(user -> reactiveReadRepository.findAssignmentsByUserIds(List.of(id))
+                .map(UserTaskLink::taskId)
+                .collectList()
+                .map(taskIds -> EntityMapper.mapToDto(user, taskIds)));
+    }
+
+    private static List<Long> toList(Collection<Long> ids) {
+        return ids == null ? null : new ArrayList<>(ids);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.anydeskapi.services;
+
+import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.entities.TombstoneEntity;
+import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.TombstoneRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.routing.PrimaryReads;
+import com.example.anydeskapi.data.transactions.OpenWriteTransactions;
+import com.example.anydeskapi.dtos.SyncResponseDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import com.example.anydeskapi.events.UserChangedEvent;
+import com.example.anydeskapi.mappers.EntityMapper;
+import com.example.anydeskapi.pagination.CursorCodec;
+import com.example.anydeskapi.pagination.SyncToken;
+import com.example.anydeskapi.services.interfaces.SyncService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Timed(value = "anydesk.service", histogram = true)
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    private static final int MAX_SYNC_LIMIT = 1000;
+    private static final String TASK = "task";
+    private static final String USER = "user";
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final PrimaryReads primaryReads;
+    private final OpenWriteTransactions openWriteTransactions;
+    private final Duration settleTime;
+    private final Duration tombstoneRetention;
+    private final ScheduledExecutorService pruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tombstone-pruner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyncServiceImpl(TaskRepository taskRepository,
+                           UserRepository userRepository,
+                           TombstoneRepository tombstoneRepository,
+                           PrimaryReads primaryReads,
+                           OpenWriteTransactions openWriteTransactions,
+                           @Value("${anydesk.sync.settle-time:2s}") Duration settleTime,
+                           @Value("${anydesk.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.primaryReads = primaryReads;
+        this.openWriteTransactions = openWriteTransactions;
+        this.settleTime = settleTime;
+        this.tombstoneRetention = tombstoneRetention;
+        pruner.scheduleWithFixedDelay(this::pruneTombstones, 1, 60, TimeUnit.MINUTES);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDto<TaskResponseDto> getTaskChanges(String since, int limit) {
+        log.debug("Fetching task changes since token '{}', limit={}", since, limit);
+
+        // Read from the primary: a token computed against a lagging replica would move past rows it has not seen.
+        return primaryReads.get(() -> loadTaskChanges(since, limit));
+    }
+
+    private SyncResponseDto<TaskResponseDto> loadTaskChanges(String since, int limit) {
+        SyncPage page = startPage(since, limit, TASK);
+        List<TaskEntity> tasks = taskRepository.findChangedSince(
+            page.token.changedAt(), page.token.changedId(), page.until, Limit.of(limit + 1));
+        boolean truncated = tasks.size() > limit;
+        tasks = truncated ? tasks.subList(0, limit) : tasks;
+
+        Map<Long, List<Long>> assignedUserIds = tasks.isEmpty() ? Map.of() : EntityMapper.groupAssignments(
+            taskRepository.findAssignmentsByTaskIds(tasks.stream().map(TaskEntity::getId).toList()),
+            AssignmentLink::getTaskId, AssignmentLink::getUserId);
+        TaskEntity last = truncated ? tasks.get(tasks.size() - 1) : null;
+
+        log.debug("Found {} changed and {} deleted task(s)", tasks.size(), page.deleted.size());
+        return new SyncResponseDto<>(
+            tasks.stream().map(task -> EntityMapper.mapToDto(task, assignedUserIds.get(task.getId()))).toList(),
+            page.deletedIds(),
+            page.next(last == null ? null : last.getUpdatedAt(), last == null ? 0 : last.getId()),
+            truncated || page.truncated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDto<UserResponseDto> getUserChanges(String since, int limit) {
+        log.debug("Fetching user changes since token '{}', limit={}", since, limit);
+
+        return primaryReads.get(() -> loadUserChanges(since, limit));
+    }
+
+    private SyncResponseDto<UserResponseDto> loadUserChanges(String since, int limit) {
+        SyncPage page = startPage(since, limit, USER);
+        List<UserEntity> users = userRepository.findChangedSince(
+            page.token.changedAt(), page.token.changedId(), page.until, Limit.of(limit + 1));
+        boolean truncated = users.size() > limit;
+        users = truncated ? users.subList(0, limit) : users;
+
+        Map<Long, List<Long>> taskIds = users.isEmpty() ? Map.of() : EntityMapper.groupAssignments(
+            userRepository.findAssignmentsByUserIds(users.stream().map(UserEntity::getId).toList()),
+            AssignmentLink::getUserId, AssignmentLink::getTaskId);
+        UserEntity last = truncated ? users.get(users.size() - 1) : null;
+
+        log.debug("Found {} changed and {} deleted user(s)", users.size(), page.deleted.size());
+        return new SyncResponseDto<>(
+            users.stream().map(user -> EntityMapper.mapToDto(user, taskIds.getOrDefault(user.getId(), List.of()))).toList(),
+            page.deletedIds(),
+            page.next(last == null ? null : last.getUpdatedAt(), last == null ? 0 : last.getId()),
+            truncated || page.truncated);
+    }
+
+    // Written in the deleting transaction, so a delete and its tombstone commit or roll back together.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            tombstoneRepository.save(new TombstoneEntity(TASK, event.taskId(), LocalDateTime.now()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            tombstoneRepository.save(new TombstoneEntity(USER, event.userId(), LocalDateTime.now()));
+        }
+    }
+
+    // Rows are only returned up to a cutoff before the oldest write transaction still open on this instance, so
+    // one that stamped updatedAt before another but committed after it is not skipped by a client that already
+    // moved past it. Transactions on other instances are only covered by the settle time.
+    private SyncPage startPage(String since, int limit, String entityType) {
+        CursorCodec.validateLimit(limit, MAX_SYNC_LIMIT);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(settleTime);
+        LocalDateTime oldestOpen = openWriteTransactions.oldestStart().orElse(null);
+        if (oldestOpen != null && !oldestOpen.isAfter(until)) {
+            until = oldestOpen.minus(1, ChronoUnit.MICROS);
+        }
+        SyncToken token = SyncToken.decode(since);
+        if (token == null) {
+            token = SyncToken.initial(until);
+        } else if (token.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Sync token has expired. Start a full sync without a token.");
+        }
+        List<TombstoneEntity> deleted = tombstoneRepository.findChangedSince(
+            entityType, token.deletedAt(), token.deletedId(), until, Limit.of(limit + 1));
+        boolean truncated = deleted.size() > limit;
+        return new SyncPage(token, until, truncated ? deleted.subList(0, limit) : deleted, truncated);
+    }
+
+    private void pruneTombstones() {
+        try {
+            int pruned = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+            if (pruned > 0) {
+                log.info("Pruned {} tombstone(s) older than {}", pruned, tombstoneRetention);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to prune tombstones: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pruner.shutdownNow();
+    }
+
+    // A side that was read to the end moves up to the cutoff, so the token keeps advancing even when nothing
+    // changed; a truncated side resumes right after its last returned entry.
+    private record SyncPage(SyncToken token, LocalDateTime until, List<TombstoneEntity> deleted, boolean truncated) {
+        List<Long> deletedIds() {
+            return deleted.stream().map(TombstoneEntity::getEntityId).toList();
+        }
+
+        String next(LocalDateTime lastChangedAt, long lastChangedId) {
+            TombstoneEntity lastDeleted = truncated ? deleted.get(deleted.size() - 1) : null;
+            return new SyncToken(
+                lastChangedAt == null ? until : lastChangedAt,
+                lastChangedAt == null ? Long.MAX_VALUE : lastChangedId,
+                lastDeleted == null ? until : lastDeleted.getDeletedAt(),
+                lastDeleted == null ? Long.MAX_VALUE : lastDeleted.getId()).encode();
+        }
+    }
+}
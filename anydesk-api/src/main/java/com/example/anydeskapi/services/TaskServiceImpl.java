@@ -1,82 +1,289 @@
 package com.example.anydeskapi.services;
 
+import com.example.anydeskapi.caching.EntityCounters;
+import com.example.anydeskapi.caching.ListResultCache;
+import com.example.anydeskapi.caching.VersionedDtoCache;
+import com.example.anydeskapi.configs.CacheConfig;
 import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.data.projections.EntityVersion;
 import com.example.anydeskapi.data.repositories.TaskRepository;
 import com.example.anydeskapi.data.specifications.TaskSpecifications;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.BatchItemStatus;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
 import com.example.anydeskapi.dtos.TaskRequestDto;
 import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.TaskChangedEvent;
 import com.example.anydeskapi.mappers.EntityMapper;
+import com.example.anydeskapi.pagination.CursorCodec;
+import com.example.anydeskapi.search.TaskSearchIndex;
 import com.example.anydeskapi.services.interfaces.TaskService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "anydesk.service", histogram = true)
 @Slf4j
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_CURSOR_LIMIT = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final TaskRepository taskRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ListResultCache listResultCache;
+    private final VersionedDtoCache versionedDtoCache;
+    private final EntityCounters entityCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override
     public TaskResponseDto createTask(TaskRequestDto requestDto) {
-        log.info("Received request to create task with title='{}'", requestDto.getTitle());
+        log.debug("Received request to create task with title='{}'", requestDto.getTitle());
 
-        boolean titleExists = taskRepository.findAll().stream()
-            .anyMatch(t -> t.getTitle().equalsIgnoreCase(requestDto.getTitle()));
+        boolean titleExists = taskRepository.existsByTitleKey(TaskEntity.titleKeyOf(requestDto.getTitle()));
         if (titleExists) {
             log.warn("Cannot create task. Title '{}' is already in use.", requestDto.getTitle());
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Task with this title already exists.");
         }
 
         TaskEntity task = EntityMapper.mapToEntity(requestDto);
-        TaskEntity saved = taskRepository.save(task);
+        TaskEntity saved;
+        try {
+            saved = taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot create task. Title '{}' was taken concurrently.", requestDto.getTitle());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task with this title already exists.");
+        }
+
+        TaskResponseDto created = EntityMapper.mapToDto(saved);
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.CREATED, null, created));
+
+        log.debug("Task created successfully with ID={}", saved.getId());
+        return created;
+    }
+
+    @Override
+    public BatchResultDto createTasks(List<TaskRequestDto> requestDtos) {
+        log.debug("Received request to create {} task(s) in batch", requestDtos == null ? 0 : requestDtos.size());
+
+        if (requestDtos == null || requestDtos.isEmpty() || requestDtos.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks.");
+        }
+
+        BatchItemResultDto[] results = new BatchItemResultDto[requestDtos.size()];
+        Map<String, Integer> indexByTitleKey = new LinkedHashMap<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            TaskRequestDto requestDto = requestDtos.get(i);
+            String error = validate(requestDto);
+            if (error != null) {
+                results[i] = BatchItemResultDto.failed(i, BatchItemStatus.INVALID, error);
+            } else if (indexByTitleKey.putIfAbsent(TaskEntity.titleKeyOf(requestDto.getTitle()), i) != null) {
+                results[i] = BatchItemResultDto.failed(i, BatchItemStatus.DUPLICATE, "Duplicate title within batch.");
+            }
+        }
+
+        Set<String> existingTitleKeys = indexByTitleKey.isEmpty()
+            ? Set.of()
+            : taskRepository.findExistingTitleKeys(indexByTitleKey.keySet());
+        List<Integer> indexes = new ArrayList<>();
+        List<TaskEntity> tasks = new ArrayList<>();
+        indexByTitleKey.forEach((titleKey, index) -> {
+            if (existingTitleKeys.contains(titleKey)) {
+                results[index] = BatchItemResultDto.failed(index, BatchItemStatus.DUPLICATE, "Task with this title already exists.");
+            } else {
+                indexes.add(index);
+                tasks.add(EntityMapper.mapToEntity(requestDtos.get(index)));
+            }
+        });
+
+        List<TaskEntity> saved;
+        try {
+            saved = taskRepository.saveAll(tasks);
+            taskRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot create task batch. A title was taken concurrently.");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task with this title already exists.");
+        }
 
-        log.info("Task created successfully with ID={}", saved.getId());
-        return EntityMapper.mapToDto(saved);
+        for (int i = 0; i < saved.size(); i++) {
+            TaskResponseDto created = EntityMapper.mapToDto(saved.get(i));
+            results[indexes.get(i)] = BatchItemResultDto.created(indexes.get(i), created.getId());
+            eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.CREATED, null, created));
+        }
+
+        BatchResultDto result = BatchResultDto.of(Arrays.asList(results));
+        log.debug("Task batch processed: {} created, {} failed", result.getCreated(), result.getFailed());
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskResponseDto> getAllTasks(int page, int size, String title, String description) {
-        log.info("Fetching tasks with filters: title='{}', description='{}', page={}, size={}", title, description, page, size);
+        return getAllTasks(page, size, title, description, null);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDto> getAllTasks(int page, int size, String title, String description, CollectionVersion version) {
+        log.debug("Fetching tasks with filters: title='{}', description='{}', page={}, size={}", title, description, page, size);
+
+        // Keyed by the collection version as well, so a change committed on another instance is not answered
+        // with a page cached before it.
+        return listResultCache.get(ListResultCache.TASKS, ListResultCache.params(page, size, title, description, version),
+            () -> loadTasks(page, size, title, description));
+    }
+
+    private Page<TaskResponseDto> loadTasks(int page, int size, String title, String description) {
         Pageable pageable = PageRequest.of(page, size);
-        Specification<TaskEntity> spec = TaskSpecifications.hasTitle(title)
+        Optional<List<Long>> candidateIds = taskSearchIndex.findCandidateIds(title, description);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all tasks for the given filters");
+            return Page.empty(pageable);
+        }
+        Specification<TaskEntity> spec = TaskSpecifications.hasIdIn(candidateIds.orElse(null))
+            .and(TaskSpecifications.hasTitle(title))
             .and(TaskSpecifications.hasDescription(description));
 
         Page<TaskEntity> taskPage = taskRepository.findAll(spec, pageable);
 
-        log.info("Retrieved {} task(s) matching filters", taskPage.getTotalElements());
-        return taskPage.map(EntityMapper::mapToDto);
+        Map<Long, List<Long>> assignedUserIds = findAssignedUserIds(taskPage.getContent());
+
+        log.debug("Retrieved {} task(s) matching filters", taskPage.getTotalElements());
+        return taskPage.map(task -> EntityMapper.mapToDto(task, assignedUserIds.get(task.getId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<TaskResponseDto> getTasksByCursor(String after, int limit, String title, String description) {
+        log.debug("Fetching tasks by cursor with filters: title='{}', description='{}', limit={}", title, description, limit);
+
+        CursorCodec.validateLimit(limit, MAX_CURSOR_LIMIT);
+        Long afterId = CursorCodec.decode(after);
+        Optional<List<Long>> candidateIds = taskSearchIndex.findCandidateIds(title, description);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all tasks for the given filters");
+            return new CursorPageResponseDto<>(List.of(), null);
+        }
+        Specification<TaskEntity> spec = TaskSpecifications.hasIdGreaterThan(afterId)
+            .and(TaskSpecifications.hasIdIn(candidateIds.orElse(null)))
+            .and(TaskSpecifications.hasTitle(title))
+            .and(TaskSpecifications.hasDescription(description));
+
+        List<TaskEntity> tasks = taskRepository.findBy(spec, query -> query
+            .sortBy(Sort.by("id"))
+            .limit(limit + 1)
+            .all());
+        boolean hasMore = tasks.size() > limit;
+        List<TaskEntity> content = hasMore ? tasks.subList(0, limit) : tasks;
+        Map<Long, List<Long>> assignedUserIds = findAssignedUserIds(content);
+
+        log.debug("Retrieved {} task(s) for cursor page, hasMore={}", content.size(), hasMore);
+        return new CursorPageResponseDto<>(
+            content.stream().map(task -> EntityMapper.mapToDto(task, assignedUserIds.get(task.getId()))).toList(),
+            hasMore ? CursorCodec.encode(content.get(content.size() - 1).getId()) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDto<TaskResponseDto> getTasksSlice(int page, int size, String title, String description, boolean includeTotal) {
+        log.debug("Fetching task slice with filters: title='{}', description='{}', page={}, size={}", title, description, page, size);
+
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must not be negative.");
+        }
+        CursorCodec.validateLimit(size, MAX_CURSOR_LIMIT);
+        Optional<List<Long>> candidateIds = taskSearchIndex.findCandidateIds(title, description);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all tasks for the given filters");
+            return new SliceResponseDto<>(List.of(), page, size, false, includeTotal ? 0L : null);
+        }
+        Specification<TaskEntity> spec = TaskSpecifications.hasIdIn(candidateIds.orElse(null))
+            .and(TaskSpecifications.hasTitle(title))
+            .and(TaskSpecifications.hasDescription(description));
+
+        Slice<TaskEntity> slice = taskRepository.findBy(spec, query -> query.slice(PageRequest.of(page, size, Sort.by("id"))));
+        Map<Long, List<Long>> assignedUserIds = findAssignedUserIds(slice.getContent());
+
+        log.debug("Retrieved {} task(s) for slice, hasNext={}", slice.getNumberOfElements(), slice.hasNext());
+        return new SliceResponseDto<>(
+            slice.getContent().stream().map(task -> EntityMapper.mapToDto(task, assignedUserIds.get(task.getId()))).toList(),
+            page, size, slice.hasNext(), includeTotal ? approximateTaskCount(spec, title, description) : null);
+    }
+
+    private long approximateTaskCount(Specification<TaskEntity> spec, String title, String description) {
+        if (title == null && description == null) {
+            return entityCounters.tasks();
+        }
+        return listResultCache.get(ListResultCache.TASKS, ListResultCache.params("count", title, description),
+            () -> taskRepository.count(spec));
     }
 
     @Override
     @Transactional(readOnly = true)
     public TaskResponseDto getTaskById(Long id) {
-        log.info("Looking up task by ID={}", id);
+        log.debug("Looking up task by ID={}", id);
+
+        EntityVersion version = getTaskVersion(id);
+        return versionedDtoCache.get(CacheConfig.TASKS_CACHE, id, version.updatedAt(), () -> loadTask(id));
+    }
 
+    private TaskResponseDto loadTask(Long id) {
         TaskEntity task = taskRepository.findById(id)
             .orElseThrow(() -> {
                 log.warn("No task found with ID={}", id);
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
             });
 
-        log.info("Task with ID={} retrieved successfully", id);
+        log.debug("Task with ID={} retrieved successfully", id);
         return EntityMapper.mapToDto(task);
     }
 
+    private EntityVersion getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionVersion getTasksVersion() {
+        return taskRepository.findCollectionVersion();
+    }
+
     @Override
     public TaskResponseDto updateTask(Long id, TaskRequestDto requestDto) {
-        log.info("Updating task with ID={}", id);
+        log.debug("Updating task with ID={}", id);
 
         TaskEntity existing = taskRepository.findById(id)
             .orElseThrow(() -> {
@@ -84,30 +291,40 @@ public class TaskServiceImpl implements TaskService {
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
             });
 
-        boolean titleUsedByAnother = taskRepository.findAll().stream()
-            .anyMatch(t -> !t.getId().equals(id) && t.getTitle().equalsIgnoreCase(requestDto.getTitle()));
+        boolean titleUsedByAnother = taskRepository.existsByTitleKeyAndIdNot(TaskEntity.titleKeyOf(requestDto.getTitle()), id);
         if (titleUsedByAnother) {
             log.warn("Cannot update task. Title '{}' is already used by another task.", requestDto.getTitle());
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Another task with this title already exists.");
         }
 
-        log.info("Task changes for ID={}: title='{}' → '{}', description='{}' → '{}'",
+        TaskResponseDto before = EntityMapper.mapToDto(existing);
+
+        log.debug("Task changes for ID={}: title='{}' → '{}', description='{}' → '{}'",
             id,
             existing.getTitle(), requestDto.getTitle(),
             existing.getDescription(), requestDto.getDescription());
 
         existing.setTitle(requestDto.getTitle());
         existing.setDescription(requestDto.getDescription());
-        TaskEntity updated = taskRepository.save(existing);
+        TaskEntity updated;
+        try {
+            updated = taskRepository.saveAndFlush(existing);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot update task. Title '{}' was taken concurrently.", requestDto.getTitle());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another task with this title already exists.");
+        }
 
-        log.info("Task with ID={} updated successfully", updated.getId());
-        return EntityMapper.mapToDto(updated);
+        TaskResponseDto after = EntityMapper.mapToDto(updated);
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.UPDATED, before, after));
+
+        log.debug("Task with ID={} updated successfully", updated.getId());
+        return after;
     }
 
 
     @Override
     public void deleteTask(Long id) {
-        log.info("Attempting to delete task with ID={}", id);
+        log.debug("Attempting to delete task with ID={}", id);
 
         TaskEntity existing = taskRepository.findById(id)
             .orElseThrow(() -> {
@@ -115,13 +332,38 @@ public class TaskServiceImpl implements TaskService {
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
             });
 
-        int assignedCount = existing.getAssignedUsers().size();
+        long assignedCount = taskRepository.countAssignments(id);
         if (assignedCount > 0) {
             log.warn("Cannot delete task with ID={}. It is currently assigned to {} user(s)", id, assignedCount);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot delete task: it is assigned to one or more users.");
         }
 
+        TaskResponseDto before = EntityMapper.mapToDto(existing, null);
         taskRepository.delete(existing);
-        log.info("Task with ID={} deleted successfully", id);
+        eventPublisher.publishEvent(new TaskChangedEvent(ChangeType.DELETED, before, null));
+        log.debug("Task with ID={} deleted successfully", id);
+    }
+
+    private String validate(TaskRequestDto requestDto) {
+        if (requestDto == null) {
+            return "Task cannot be null.";
+        }
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(" "));
+    }
+
+    private Map<Long, List<Long>> findAssignedUserIds(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> taskIds = tasks.stream().map(TaskEntity::getId).toList();
+        return EntityMapper.groupAssignments(taskRepository.findAssignmentsByTaskIds(taskIds),
+            AssignmentLink::getTaskId, AssignmentLink::getUserId);
     }
 }
@@ -1,18 +1,41 @@
 package com.example.anydeskapi.services;
 
-import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.caching.EntityCounters;
+import com.example.anydeskapi.caching.ListResultCache;
+import com.example.anydeskapi.caching.VersionedDtoCache;
+import com.example.anydeskapi.configs.CacheConfig;
 import com.example.anydeskapi.data.entities.UserEntity;
+import com.example.anydeskapi.data.projections.AssignmentLink;
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.data.projections.EntityVersion;
 import com.example.anydeskapi.data.repositories.TaskRepository;
 import com.example.anydeskapi.data.repositories.UserRepository;
 import com.example.anydeskapi.data.specifications.UserSpecifications;
+import com.example.anydeskapi.dtos.BatchItemResultDto;
+import com.example.anydeskapi.dtos.BatchItemStatus;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
 import com.example.anydeskapi.dtos.UserRequestDto;
 import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.UserChangedEvent;
 import com.example.anydeskapi.mappers.EntityMapper;
+import com.example.anydeskapi.pagination.CursorCodec;
+import com.example.anydeskapi.search.UserSearchIndex;
 import com.example.anydeskapi.services.interfaces.UserService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -20,65 +43,254 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "anydesk.service", histogram = true)
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_CURSOR_LIMIT = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String UNIQUE_VIOLATION = "23505";
+    // PostgreSQL reports 23503 for a missing parent row, H2 reports 23506.
+    private static final Set<String> FOREIGN_KEY_VIOLATIONS = Set.of("23503", "23506");
+
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final UserSearchIndex userSearchIndex;
+    private final ListResultCache listResultCache;
+    private final VersionedDtoCache versionedDtoCache;
+    private final EntityCounters entityCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override
     public UserResponseDto createUser(UserRequestDto requestDto) {
-        log.info("Received request to create user with email='{}' and username='{}'", requestDto.getEmail(), requestDto.getUsername());
+        log.debug("Received request to create user with email='{}' and username='{}'", requestDto.getEmail(), requestDto.getUsername());
 
-        boolean emailExists = userRepository.findAll().stream()
-            .anyMatch(u -> u.getEmail().equalsIgnoreCase(requestDto.getEmail()));
+        boolean emailExists = userRepository.existsByEmailKey(UserEntity.emailKeyOf(requestDto.getEmail()));
         if (emailExists) {
             log.warn("Cannot create user. Email '{}' is already in use.", requestDto.getEmail());
             throw new ResponseStatusException(HttpStatus.CONFLICT, "User with this email already exists.");
         }
 
         UserEntity user = EntityMapper.mapToEntity(requestDto);
-        UserEntity saved = userRepository.save(user);
+        UserEntity saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot create user. Email '{}' was taken concurrently.", requestDto.getEmail());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "User with this email already exists.");
+        }
+
+        UserResponseDto created = EntityMapper.mapToDto(saved);
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.CREATED, null, created));
+
+        log.debug("Successfully created user with ID={}", saved.getId());
+        return created;
+    }
+
+    @Override
+    public BatchResultDto createUsers(List<UserRequestDto> requestDtos) {
+        log.debug("Received request to create {} user(s) in batch", requestDtos == null ? 0 : requestDtos.size());
+
+        if (requestDtos == null || requestDtos.isEmpty() || requestDtos.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain between 1 and " + MAX_BATCH_SIZE + " users.");
+        }
 
-        log.info("Successfully created user with ID={}", saved.getId());
-        return EntityMapper.mapToDto(saved);
+        BatchItemResultDto[] results = new BatchItemResultDto[requestDtos.size()];
+        Map<String, Integer> indexByEmailKey = new LinkedHashMap<>();
+        for (int i = 0; i < requestDtos.size(); i++) {
+            UserRequestDto requestDto = requestDtos.get(i);
+            String error = validate(requestDto);
+            if (error != null) {
+                results[i] = BatchItemResultDto.failed(i, BatchItemStatus.INVALID, error);
+            } else if (indexByEmailKey.putIfAbsent(UserEntity.emailKeyOf(requestDto.getEmail()), i) != null) {
+                results[i] = BatchItemResultDto.failed(i, BatchItemStatus.DUPLICATE, "Duplicate email within batch.");
+            }
+        }
+
+        Set<String> existingEmailKeys = indexByEmailKey.isEmpty()
+            ? Set.of()
+            : userRepository.findExistingEmailKeys(indexByEmailKey.keySet());
+        List<Integer> indexes = new ArrayList<>();
+        List<UserEntity> users = new ArrayList<>();
+        indexByEmailKey.forEach((emailKey, index) -> {
+            if (existingEmailKeys.contains(emailKey)) {
+                results[index] = BatchItemResultDto.failed(index, BatchItemStatus.DUPLICATE, "User with this email already exists.");
+            } else {
+                indexes.add(index);
+                users.add(EntityMapper.mapToEntity(requestDtos.get(index)));
+            }
+        });
+
+        List<UserEntity> saved;
+        try {
+            saved = userRepository.saveAll(users);
+            userRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot create user batch. An email was taken concurrently.");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "User with this email already exists.");
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            UserResponseDto created = EntityMapper.mapToDto(saved.get(i));
+            results[indexes.get(i)] = BatchItemResultDto.created(indexes.get(i), created.getId());
+            eventPublisher.publishEvent(new UserChangedEvent(ChangeType.CREATED, null, created));
+        }
+
+        BatchResultDto result = BatchResultDto.of(Arrays.asList(results));
+        log.debug("User batch processed: {} created, {} failed", result.getCreated(), result.getFailed());
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<UserResponseDto> getAllUsers(int page, int size, String username, String email) {
-        log.info("Fetching users with filters: username='{}', email='{}', page={}, size={}", username, email, page, size);
+        return getAllUsers(page, size, username, email, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserResponseDto> getAllUsers(int page, int size, String username, String email, CollectionVersion version) {
+        log.debug("Fetching users with filters: username='{}', email='{}', page={}, size={}", username, email, page, size);
 
+        // Keyed by the collection version as well, so a change committed on another instance is not answered
+        // with a page cached before it.
+        return listResultCache.get(ListResultCache.USERS, ListResultCache.params(page, size, username, email, version),
+            () -> loadUsers(page, size, username, email));
+    }
+
+    private Page<UserResponseDto> loadUsers(int page, int size, String username, String email) {
         Pageable pageable = PageRequest.of(page, size);
-        Specification<UserEntity> spec = UserSpecifications.hasUsername(username)
+        Optional<List<Long>> candidateIds = userSearchIndex.findCandidateIds(username, email);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all users for the given filters");
+            return Page.empty(pageable);
+        }
+        Specification<UserEntity> spec = UserSpecifications.hasIdIn(candidateIds.orElse(null))
+            .and(UserSpecifications.hasUsername(username))
             .and(UserSpecifications.hasEmail(email));
         Page<UserEntity> users = userRepository.findAll(spec, pageable);
 
-        log.info("Retrieved {} user(s) matching filters", users.getTotalElements());
-        return users.map(EntityMapper::mapToDto);
+        Map<Long, List<Long>> taskIds = findTaskIds(users.getContent());
+
+        log.debug("Retrieved {} user(s) matching filters", users.getTotalElements());
+        return users.map(user -> EntityMapper.mapToDto(user, taskIds.getOrDefault(user.getId(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<UserResponseDto> getUsersByCursor(String after, int limit, String username, String email) {
+        log.debug("Fetching users by cursor with filters: username='{}', email='{}', limit={}", username, email, limit);
+
+        CursorCodec.validateLimit(limit, MAX_CURSOR_LIMIT);
+        Long afterId = CursorCodec.decode(after);
+        Optional<List<Long>> candidateIds = userSearchIndex.findCandidateIds(username, email);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all users for the given filters");
+            return new CursorPageResponseDto<>(List.of(), null);
+        }
+        Specification<UserEntity> spec = UserSpecifications.hasIdGreaterThan(afterId)
+            .and(UserSpecifications.hasIdIn(candidateIds.orElse(null)))
+            .and(UserSpecifications.hasUsername(username))
+            .and(UserSpecifications.hasEmail(email));
+
+        List<UserEntity> users = userRepository.findBy(spec, query -> query
+            .sortBy(Sort.by("id"))
+            .limit(limit + 1)
+            .all());
+        boolean hasMore = users.size() > limit;
+        List<UserEntity> content = hasMore ? users.subList(0, limit) : users;
+        Map<Long, List<Long>> taskIds = findTaskIds(content);
+
+        log.debug("Retrieved {} user(s) for cursor page, hasMore={}", content.size(), hasMore);
+        return new CursorPageResponseDto<>(
+            content.stream().map(user -> EntityMapper.mapToDto(user, taskIds.getOrDefault(user.getId(), List.of()))).toList(),
+            hasMore ? CursorCodec.encode(content.get(content.size() - 1).getId()) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SliceResponseDto<UserResponseDto> getUsersSlice(int page, int size, String username, String email, boolean includeTotal) {
+        log.debug("Fetching user slice with filters: username='{}', email='{}', page={}, size={}", username, email, page, size);
+
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page must not be negative.");
+        }
+        CursorCodec.validateLimit(size, MAX_CURSOR_LIMIT);
+        Optional<List<Long>> candidateIds = userSearchIndex.findCandidateIds(username, email);
+        if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+            log.debug("Search index ruled out all users for the given filters");
+            return new SliceResponseDto<>(List.of(), page, size, false, includeTotal ? 0L : null);
+        }
+        Specification<UserEntity> spec = UserSpecifications.hasIdIn(candidateIds.orElse(null))
+            .and(UserSpecifications.hasUsername(username))
+            .and(UserSpecifications.hasEmail(email));
+
+        Slice<UserEntity> slice = userRepository.findBy(spec, query -> query.slice(PageRequest.of(page, size, Sort.by("id"))));
+        Map<Long, List<Long>> taskIds = findTaskIds(slice.getContent());
+
+        log.debug("Retrieved {} user(s) for slice, hasNext={}", slice.getNumberOfElements(), slice.hasNext());
+        return new SliceResponseDto<>(
+            slice.getContent().stream().map(user -> EntityMapper.mapToDto(user, taskIds.getOrDefault(user.getId(), List.of()))).toList(),
+            page, size, slice.hasNext(), includeTotal ? approximateUserCount(spec, username, email) : null);
+    }
+
+    private long approximateUserCount(Specification<UserEntity> spec, String username, String email) {
+        if (username == null && email == null) {
+            return entityCounters.users();
+        }
+        return listResultCache.get(ListResultCache.USERS, ListResultCache.params("count", username, email),
+            () -> userRepository.count(spec));
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserResponseDto getUserById(Long id) {
-        log.info("Looking up user by ID={}", id);
+        log.debug("Looking up user by ID={}", id);
 
+        EntityVersion version = getUserVersion(id);
+        return versionedDtoCache.get(CacheConfig.USERS_CACHE, id, version.updatedAt(), () -> loadUser(id));
+    }
+
+    private UserResponseDto loadUser(Long id) {
         UserEntity user = userRepository.findById(id)
             .orElseThrow(() -> {
                 log.warn("No user found with ID={}", id);
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
             });
 
-        log.info("User with ID={} retrieved successfully", id);
+        log.debug("User with ID={} retrieved successfully", id);
         return EntityMapper.mapToDto(user);
     }
 
+    private EntityVersion getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionVersion getUsersVersion() {
+        return userRepository.findCollectionVersion();
+    }
+
     @Override
     public UserResponseDto updateUser(Long id, UserRequestDto requestDto) {
-        log.info("Updating user with ID={}", id);
+        log.debug("Updating user with ID={}", id);
 
         UserEntity existing = userRepository.findById(id)
             .orElseThrow(() -> {
@@ -86,29 +298,39 @@ public class UserServiceImpl implements UserService {
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
             });
 
-        boolean emailUsedByAnother = userRepository.findAll().stream()
-            .anyMatch(u -> !u.getId().equals(id) && u.getEmail().equalsIgnoreCase(requestDto.getEmail()));
+        boolean emailUsedByAnother = userRepository.existsByEmailKeyAndIdNot(UserEntity.emailKeyOf(requestDto.getEmail()), id);
         if (emailUsedByAnother) {
             log.warn("Cannot update user. Email '{}' is already used by another user.", requestDto.getEmail());
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Another user with this email already exists.");
         }
 
-        log.info("User changes for ID={}: username='{}' → '{}', email='{}' → '{}'",
+        UserResponseDto before = EntityMapper.mapToDto(existing);
+
+        log.debug("User changes for ID={}: username='{}' → '{}', email='{}' → '{}'",
             id,
             existing.getUsername(), requestDto.getUsername(),
             existing.getEmail(), requestDto.getEmail());
 
         existing.setUsername(requestDto.getUsername());
         existing.setEmail(requestDto.getEmail());
-        UserEntity updated = userRepository.save(existing);
+        UserEntity updated;
+        try {
+            updated = userRepository.saveAndFlush(existing);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Cannot update user. Email '{}' was taken concurrently.", requestDto.getEmail());
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another user with this email already exists.");
+        }
 
-        log.info("User with ID={} updated successfully", updated.getId());
-        return EntityMapper.mapToDto(updated);
+        UserResponseDto after = EntityMapper.mapToDto(updated);
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.UPDATED, before, after));
+
+        log.debug("User with ID={} updated successfully", updated.getId());
+        return after;
     }
 
     @Override
     public void deleteUser(Long id) {
-        log.info("Attempting to delete user with ID={}", id);
+        log.debug("Attempting to delete user with ID={}", id);
 
         UserEntity existing = userRepository.findById(id)
             .orElseThrow(() -> {
@@ -116,61 +338,112 @@ public class UserServiceImpl implements UserService {
                 return new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
             });
 
+        UserResponseDto before = EntityMapper.mapToDto(existing);
         userRepository.delete(existing);
-        log.info("User with ID={} deleted successfully", id);
+        LocalDateTime now = LocalDateTime.now();
+        if (!before.getTaskIds().isEmpty()) {
+            taskRepository.touch(before.getTaskIds(), now);
+        }
+        before.getTaskIds().forEach(taskId ->
+            eventPublisher.publishEvent(new AssignmentChangedEvent(ChangeType.DELETED, id, taskId, now)));
+        eventPublisher.publishEvent(new UserChangedEvent(ChangeType.DELETED, before, null));
+        log.debug("User with ID={} deleted successfully", id);
     }
 
     @Override
     public void assignTaskToUser(Long userId, Long taskId) {
-        log.info("Attempting to assign Task ID={} to User ID={}", taskId, userId);
+        log.debug("Attempting to assign Task ID={} to User ID={}", taskId, userId);
 
-        UserEntity user = userRepository.findById(userId)
-            .orElseThrow(() -> {
-                log.warn("User not found for task assignment. User ID={}", userId);
-                return new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
-            });
+        if (!userRepository.existsById(userId)) {
+            log.warn("User not found for task assignment. User ID={}", userId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
 
-        TaskEntity task = taskRepository.findById(taskId)
-            .orElseThrow(() -> {
-                log.warn("Task not found for assignment. Task ID={}", taskId);
-                return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
-            });
+        if (!taskRepository.existsById(taskId)) {
+            log.warn("Task not found for assignment. Task ID={}", taskId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+        }
 
-        if (user.getTasks().contains(task)) {
+        int inserted;
+        try {
+            inserted = userRepository.insertAssignment(userId, taskId);
+        } catch (DataIntegrityViolationException ex) {
+            // The insert skips existing pairs, so a unique violation is a concurrent assign of the same pair and a
+            // foreign key violation means the user or task was deleted after the checks above.
+            if (violates(ex, FOREIGN_KEY_VIOLATIONS)) {
+                log.warn("User ID={} or Task ID={} was deleted during assignment", userId, taskId);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User or task not found");
+            }
+            if (!violates(ex, Set.of(UNIQUE_VIOLATION))) {
+                throw ex;
+            }
+            inserted = 0;
+        }
+        if (inserted == 0) {
             log.warn("Task ID={} is already assigned to User ID={}", taskId, userId);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task is already assigned to the user.");
         }
+        LocalDateTime now = touch(userId, taskId);
+        eventPublisher.publishEvent(new AssignmentChangedEvent(ChangeType.CREATED, userId, taskId, now));
 
-        user.getTasks().add(task);
-        userRepository.save(user);
-
-        log.info("Task ID={} successfully assigned to User ID={}", taskId, userId);
+        log.debug("Task ID={} successfully assigned to User ID={}", taskId, userId);
     }
 
     @Override
     public void removeTaskFromUser(Long userId, Long taskId) {
-        log.info("Attempting to remove Task ID={} from User ID={}", taskId, userId);
+        log.debug("Attempting to remove Task ID={} from User ID={}", taskId, userId);
 
-        UserEntity user = userRepository.findById(userId)
-            .orElseThrow(() -> {
-                log.warn("User not found for task removal. User ID={}", userId);
-                return new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
-            });
+        if (!userRepository.existsById(userId)) {
+            log.warn("User not found for task removal. User ID={}", userId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
+        }
 
-        TaskEntity task = taskRepository.findById(taskId)
-            .orElseThrow(() -> {
-                log.warn("Task not found for removal. Task ID={}", taskId);
-                return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
-            });
+        if (!taskRepository.existsById(taskId)) {
+            log.warn("Task not found for removal. Task ID={}", taskId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+        }
 
-        if (!user.getTasks().contains(task)) {
+        if (userRepository.deleteAssignment(userId, taskId) == 0) {
             log.warn("Cannot remove task. Task ID={} is not assigned to User ID={}", taskId, userId);
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task is not assigned to the user.");
         }
+        LocalDateTime now = touch(userId, taskId);
+        eventPublisher.publishEvent(new AssignmentChangedEvent(ChangeType.DELETED, userId, taskId, now));
 
-        user.getTasks().remove(task);
-        userRepository.save(user);
+        log.debug("Task ID={} successfully removed from User ID={}", taskId, userId);
+    }
+
+    private static boolean violates(DataIntegrityViolationException ex, Set<String> sqlStates) {
+        return ex.getMostSpecificCause() instanceof SQLException sql && sqlStates.contains(sql.getSQLState());
+    }
+
+    private LocalDateTime touch(Long userId, Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.touch(List.of(userId), now);
+        taskRepository.touch(List.of(taskId), now);
+        return now;
+    }
 
-        log.info("Task ID={} successfully removed from User ID={}", taskId, userId);
+    private String validate(UserRequestDto requestDto) {
+        if (requestDto == null) {
+            return "User cannot be null.";
+        }
+        Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(" "));
+    }
+
+    private Map<Long, List<Long>> findTaskIds(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> userIds = users.stream().map(UserEntity::getId).toList();
+        return EntityMapper.groupAssignments(userRepository.findAssignmentsByUserIds(userIds),
+            AssignmentLink::getUserId, AssignmentLink::getTaskId);
     }
 }
@@ -0,0 +1,10 @@
+package com.example.anydeskapi.services.interfaces;
+
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+
+public interface AssignmentService {
+    AssignmentBatchResultDto assignTasks(AssignmentBatchRequestDto requestDto);
+
+    AssignmentBatchResultDto removeTasks(AssignmentBatchRequestDto requestDto);
+}
@@ -0,0 +1,10 @@
+package com.example.anydeskapi.services.interfaces;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportTasks(OutputStream out) throws IOException;
+
+    void exportUsers(OutputStream out) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.example.anydeskapi.services.interfaces;
+
+import com.example.anydeskapi.dtos.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface ImportService {
+    void importTasks(InputStream in, ImportFormat format, OutputStream report) throws IOException;
+
+    void importUsers(InputStream in, ImportFormat format, OutputStream report) throws IOException;
+
+    void importAssignments(InputStream in, ImportFormat format, OutputStream report) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.example.anydeskapi.services.interfaces;
+
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveReadService {
+    Flux<TaskResponseDto> getTasks(int page, int size, String title, String description);
+
+    Mono<TaskResponseDto> getTaskById(Long id);
+
+    Flux<UserResponseDto> getUsers(int page, int size, String username, String email);
+
+    Mono<UserResponseDto> getUserById(Long id);
+}
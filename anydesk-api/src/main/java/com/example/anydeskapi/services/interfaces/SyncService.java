@@ -0,0 +1,11 @@
+package com.example.anydeskapi.services.interfaces;
+
+import com.example.anydeskapi.dtos.SyncResponseDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+
+public interface SyncService {
+    SyncResponseDto<TaskResponseDto> getTaskChanges(String since, int limit);
+
+    SyncResponseDto<UserResponseDto> getUserChanges(String since, int limit);
+}
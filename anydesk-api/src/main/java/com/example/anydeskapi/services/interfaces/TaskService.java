@@ -1,5 +1,9 @@
 package com.example.anydeskapi.services.interfaces;
 
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
 import com.example.anydeskapi.dtos.TaskRequestDto;
 import com.example.anydeskapi.dtos.TaskResponseDto;
 import org.springframework.data.domain.Page;
@@ -9,10 +13,21 @@ import java.util.List;
 public interface TaskService {
     TaskResponseDto createTask(TaskRequestDto requestDto);
 
+    BatchResultDto createTasks(List<TaskRequestDto> requestDtos);
+
     Page<TaskResponseDto> getAllTasks(int page, int size, String title, String description);
 
+    /** Same as {@link #getAllTasks(int, int, String, String)}, but never serves a cached page older than {@code version}. */
+    Page<TaskResponseDto> getAllTasks(int page, int size, String title, String description, CollectionVersion version);
+
+    CursorPageResponseDto<TaskResponseDto> getTasksByCursor(String after, int limit, String title, String description);
+
+    SliceResponseDto<TaskResponseDto> getTasksSlice(int page, int size, String title, String description, boolean includeTotal);
+
     TaskResponseDto getTaskById(Long id);
 
+    CollectionVersion getTasksVersion();
+
     TaskResponseDto updateTask(Long id, TaskRequestDto requestDto);
 
     void deleteTask(Long id);
@@ -1,17 +1,34 @@
 package com.example.anydeskapi.services.interfaces;
 
+import com.example.anydeskapi.data.projections.CollectionVersion;
+import com.example.anydeskapi.dtos.BatchResultDto;
+import com.example.anydeskapi.dtos.CursorPageResponseDto;
+import com.example.anydeskapi.dtos.SliceResponseDto;
 import com.example.anydeskapi.dtos.UserRequestDto;
 import com.example.anydeskapi.dtos.UserResponseDto;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 
 public interface UserService {
     UserResponseDto createUser(UserRequestDto requestDto);
 
+    BatchResultDto createUsers(List<UserRequestDto> requestDtos);
+
     Page<UserResponseDto> getAllUsers(int page, int size, String username, String email);
 
+    /** Same as {@link #getAllUsers(int, int, String, String)}, but never serves a cached page older than {@code version}. */
+    Page<UserResponseDto> getAllUsers(int page, int size, String username, String email, CollectionVersion version);
+
+    CursorPageResponseDto<UserResponseDto> getUsersByCursor(String after, int limit, String username, String email);
+
+    SliceResponseDto<UserResponseDto> getUsersSlice(int page, int size, String username, String email, boolean includeTotal);
+
     UserResponseDto getUserById(Long id);
 
+    CollectionVersion getUsersVersion();
+
     UserResponseDto updateUser(Long id, UserRequestDto requestDto);
 
     void deleteUser(Long id);
@@ -0,0 +1,124 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.anydeskapi.TaskControllerIntegrationTests.extractIdFromJson;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AssignmentControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void assignTasks_ShouldReportOutcomePerPair() throws Exception {
+        long userId = createUser("Jon", "jon@example.com");
+        long taskId = createTask("Task A");
+
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId))
+            .andExpect(status().isOk());
+        long otherTaskId = createTask("Task B");
+
+        mockMvc.perform(post("/api/assignments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "pairs": [
+                        { "userId": %d, "taskId": %d },
+                        { "userId": %d, "taskId": %d },
+                        { "userId": -1, "taskId": %d },
+                        { "userId": %d, "taskId": -1 }
+                    ] }
+                """.formatted(userId, taskId, userId, otherTaskId, taskId, userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.applied").value(1))
+            .andExpect(jsonPath("$.skipped").value(3))
+            .andExpect(jsonPath("$.results[0].status").value("ALREADY_PRESENT"))
+            .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[2].status").value("USER_NOT_FOUND"))
+            .andExpect(jsonPath("$.results[3].status").value("TASK_NOT_FOUND"));
+
+        mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(jsonPath("$.taskIds.length()").value(2));
+    }
+
+    @Test
+    void assignAndRemoveTasks_ShouldSupportCrossProduct() throws Exception {
+        long jonId = createUser("Jon", "jon@example.com");
+        long janeId = createUser("Jane", "jane@example.com");
+        long taskA = createTask("Task A");
+        long taskB = createTask("Task B");
+        String crossProduct = """
+            { "userIds": [%d, %d], "taskIds": [%d, %d] }
+        """.formatted(jonId, janeId, taskA, taskB);
+
+        mockMvc.perform(post("/api/assignments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(crossProduct))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.applied").value(4));
+
+        mockMvc.perform(post("/api/assignments/batch/remove")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(crossProduct))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.applied").value(4))
+            .andExpect(jsonPath("$.results[0].status").value("REMOVED"));
+
+        mockMvc.perform(post("/api/assignments/batch/remove")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(crossProduct))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.applied").value(0))
+            .andExpect(jsonPath("$.results[0].status").value("NOT_ASSIGNED"));
+    }
+
+    @Test
+    void assignTasks_ShouldReturn400_WhenNoPairsGiven() throws Exception {
+        mockMvc.perform(post("/api/assignments/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Provide either pairs or both userIds and taskIds."));
+    }
+
+    private long createUser(String username, String email) throws Exception {
+        return extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "%s", "email": "%s" }
+                """.formatted(username, email)))
+            .andReturn().getResponse().getContentAsString());
+    }
+
+    private long createTask(String title) throws Exception {
+        return extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "%s", "description": "Desc" }
+                """.formatted(title)))
+            .andReturn().getResponse().getContentAsString());
+    }
+}
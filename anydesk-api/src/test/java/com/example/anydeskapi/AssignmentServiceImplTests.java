@@ -0,0 +1,57 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.projections.UserTaskLink;
+import com.example.anydeskapi.data.repositories.AssignmentRepository;
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.dtos.AssignmentBatchRequestDto;
+import com.example.anydeskapi.dtos.AssignmentBatchResultDto;
+import com.example.anydeskapi.dtos.AssignmentStatus;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.services.AssignmentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AssignmentServiceImplTests {
+
+    private AssignmentRepository assignmentRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private AssignmentServiceImpl assignmentService;
+
+    @BeforeEach
+    void setUp() {
+        assignmentRepository = mock(AssignmentRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        assignmentService = new AssignmentServiceImpl(assignmentRepository, userRepository, taskRepository, eventPublisher);
+
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+        when(taskRepository.findExistingIds(any())).thenReturn(Set.of(10L, 11L));
+    }
+
+    @Test
+    void removeTasks_ShouldReportPairsRemovedConcurrentlyAsNotAssigned() {
+        UserTaskLink first = new UserTaskLink(1L, 10L);
+        UserTaskLink second = new UserTaskLink(1L, 11L);
+        when(assignmentRepository.findExisting(any(), any())).thenReturn(Set.of(first, second));
+        when(assignmentRepository.deleteAll(List.of(first, second))).thenReturn(Set.of(first));
+
+        AssignmentBatchResultDto result = assignmentService.removeTasks(
+            new AssignmentBatchRequestDto(null, List.of(1L), List.of(10L, 11L)));
+
+        assertEquals(1, result.getApplied());
+        assertEquals(1, result.getSkipped());
+        assertEquals(AssignmentStatus.REMOVED, result.getResults().get(0).getStatus());
+        assertEquals(AssignmentStatus.NOT_ASSIGNED, result.getResults().get(1).getStatus());
+        verify(eventPublisher, times(1)).publishEvent(any(AssignmentChangedEvent.class));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.anydeskapi;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.anydeskapi.TaskControllerIntegrationTests.extractIdFromJson;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CacheControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getCacheStats_ShouldCountHitsAndMisses() throws Exception {
+        long id = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Cached task", "description": "Read twice" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/caches"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.name == 'tasks')].enabled", hasItem(true)))
+            .andExpect(jsonPath("$[?(@.name == 'tasks')].hits", hasItem(greaterThanOrEqualTo(1))))
+            .andExpect(jsonPath("$[?(@.name == 'tasks')].misses", hasItem(greaterThanOrEqualTo(1))))
+            .andExpect(jsonPath("$[?(@.name == 'task-fragments')].hits", hasItem(greaterThanOrEqualTo(1))));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChangeFeedControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void subscribe_ShouldStreamCommittedChanges() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/changes").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+
+        long taskId = TaskControllerIntegrationTests.extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString());
+        long userId = TaskControllerIntegrationTests.extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"Jon\", \"email\": \"jon@example.com\" }"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId))
+            .andExpect(status().isOk());
+
+        String assignment = "{\"userId\":" + userId + ",\"taskId\":" + taskId + "}";
+        String body = awaitContent(stream, assignment);
+        assertEquals("no", stream.getHeader("X-Accel-Buffering"));
+        assertTrue(body.contains("event:task"), body);
+        assertTrue(body.contains("\"title\":\"Task A\""), body);
+        assertTrue(body.contains("event:user"), body);
+        assertTrue(body.contains("event:assignment"), body);
+        assertTrue(body.contains(assignment + ",\"updatedAt\":\""), body);
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.dtos.ChangeEventDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.events.ChangeFeed;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChangeFeed feed;
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    private static TaskChangedEvent created(long id) {
+        return new TaskChangedEvent(ChangeType.CREATED, null, new TaskResponseDto(id, "Task " + id, "Desc", List.of(), null));
+    }
+
+    @Test
+    void publish_ShouldReachThousandsOfSubscribersInOrder() throws Exception {
+        feed = new ChangeFeed(meterRegistry, 256, 1000, Duration.ofHours(1));
+        int subscribers = 5000;
+        int events = 50;
+        CountDownLatch done = new CountDownLatch(subscribers);
+        List<RecordingSink> sinks = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            RecordingSink sink = new RecordingSink(events, done);
+            sinks.add(sink);
+            feed.subscribe(null, sink);
+        }
+
+        for (long id = 1; id <= events; id++) {
+            feed.onTaskChanged(created(id));
+        }
+
+        assertTrue(done.await(60, TimeUnit.SECONDS), "Not every subscriber received every event");
+        for (RecordingSink sink : sinks) {
+            assertEquals(events, sink.events.size());
+            for (int i = 0; i < events; i++) {
+                assertEquals(i + 1L, sink.events.get(i).getId());
+            }
+        }
+        assertEquals(0, meterRegistry.counter("anydesk.changes.evictions").count());
+    }
+
+    @Test
+    void publish_ShouldEvictSlowSubscriberWithoutDelayingOthers() throws Exception {
+        feed = new ChangeFeed(meterRegistry, 4, 1000, Duration.ofHours(1));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(1, new CountDownLatch(1)) {
+            @Override
+            public void send(String eventId, ChangeEventDto event) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RecordingSink fast = new RecordingSink(10, new CountDownLatch(1));
+        feed.subscribe(null, slow);
+        feed.subscribe(null, fast);
+
+        for (long id = 1; id <= 10; id++) {
+            feed.onTaskChanged(created(id));
+            assertTrue(fast.received.tryAcquire(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(10, fast.events.size());
+        assertTrue(slow.closed.await(10, TimeUnit.SECONDS));
+        assertEquals(1, feed.subscriberCount());
+        assertEquals(1, meterRegistry.counter("anydesk.changes.evictions").count());
+        release.countDown();
+    }
+
+    @Test
+    void subscribe_ShouldReplayEventsAfterLastEventId() throws Exception {
+        feed = new ChangeFeed(meterRegistry, 256, 1000, Duration.ofHours(1));
+        CountDownLatch firstDone = new CountDownLatch(1);
+        RecordingSink first = new RecordingSink(1, firstDone);
+        feed.subscribe(null, first);
+        feed.onTaskChanged(created(1));
+        assertTrue(firstDone.await(10, TimeUnit.SECONDS));
+        first.events.clear();
+        feed.onTaskChanged(created(2));
+        feed.onTaskChanged(created(3));
+
+        CountDownLatch resumedDone = new CountDownLatch(1);
+        RecordingSink resumed = new RecordingSink(2, resumedDone);
+        feed.subscribe(first.eventIds.get(0), resumed);
+
+        assertTrue(resumedDone.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(2L, 3L), resumed.events.stream().map(ChangeEventDto::getId).toList());
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenLastEventIdIsNoLongerRetained() throws Exception {
+        feed = new ChangeFeed(meterRegistry, 256, 2, Duration.ofHours(1));
+        CountDownLatch firstDone = new CountDownLatch(1);
+        RecordingSink first = new RecordingSink(1, firstDone);
+        feed.subscribe(null, first);
+        feed.onTaskChanged(created(1));
+        assertTrue(firstDone.await(10, TimeUnit.SECONDS));
+        for (long id = 2; id <= 5; id++) {
+            feed.onTaskChanged(created(id));
+        }
+
+        for (String lastEventId : List.of(first.eventIds.get(0), "previous-process-7")) {
+            CountDownLatch done = new CountDownLatch(1);
+            RecordingSink resumed = new RecordingSink(1, done);
+            feed.subscribe(lastEventId, resumed);
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(ChangeFeed.RESET, resumed.events.get(0).getEntity());
+            assertNotNull(resumed.eventIds.get(0));
+        }
+    }
+
+    private static class RecordingSink implements ChangeFeed.Sink {
+        final List<ChangeEventDto> events = new CopyOnWriteArrayList<>();
+        final List<String> eventIds = new CopyOnWriteArrayList<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final Semaphore received = new Semaphore(0);
+        private final int expected;
+        private final CountDownLatch done;
+
+        RecordingSink(int expected, CountDownLatch done) {
+            this.expected = expected;
+            this.done = done;
+        }
+
+        @Override
+        public void send(String eventId, ChangeEventDto event) {
+            events.add(event);
+            eventIds.add(eventId);
+            received.release();
+            if (events.size() == expected) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.anydeskapi.TaskControllerIntegrationTests.extractIdFromJson;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "anydesk.import.chunk-size=2")
+@AutoConfigureMockMvc
+class ImportControllerIntegrationTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void importTasks_ShouldCreateValidCsvRowsAndReportRejectedOnes() throws Exception {
+        List<JsonNode> report = importBody(post("/api/imports/tasks")
+            .contentType("text/csv")
+            .content("""
+                title,description
+                Task A,First
+                ,Missing title
+                task a,Duplicate of row 1
+                Task B,Second
+                Task C,Third
+                """));
+
+        assertEquals(3, report.size());
+        assertEquals(2, report.get(0).get("row").asLong());
+        assertEquals("INVALID", report.get(0).get("status").asText());
+        assertEquals(3, report.get(1).get("row").asLong());
+        assertEquals("DUPLICATE", report.get(1).get("status").asText());
+        JsonNode summary = report.get(2);
+        assertEquals(5, summary.get("rows").asLong());
+        assertEquals(3, summary.get("imported").asLong());
+        assertEquals(2, summary.get("failed").asLong());
+        assertTrue(summary.get("complete").asBoolean());
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    void importUsers_ShouldStopAtUnparseableNdjsonRow() throws Exception {
+        List<JsonNode> report = importBody(post("/api/imports/users")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"username":"Jon","email":"jon@example.com"}
+                {"username":"Ann","email":"ann@example.com"}
+                {"username":"Bob","email":"bob@example.com"}
+                {"username":
+                """));
+
+        assertEquals(2, report.size());
+        assertEquals(4, report.get(0).get("row").asLong());
+        assertEquals("UNPARSEABLE", report.get(0).get("status").asText());
+        assertEquals(3, report.get(1).get("imported").asLong());
+        assertFalse(report.get(1).get("complete").asBoolean());
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    void importUsers_ShouldReportRowsWithMismatchedTypesAndContinue() throws Exception {
+        List<JsonNode> report = importBody(post("/api/imports/users")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("""
+                {"username":"Jon","email":"jon@example.com"}
+                {"username":{"first":"Ann"},"email":"ann@example.com"}
+                {"username":"Bob","email":"bob@example.com"}
+                {"username":"Eve","email":"eve@example.com"}
+                """));
+
+        assertEquals(2, report.size());
+        assertEquals(2, report.get(0).get("row").asLong());
+        assertEquals("INVALID", report.get(0).get("status").asText());
+        JsonNode summary = report.get(1);
+        assertEquals(4, summary.get("rows").asLong());
+        assertEquals(3, summary.get("imported").asLong());
+        assertEquals(1, summary.get("failed").asLong());
+        assertTrue(summary.get("complete").asBoolean());
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    void importAssignments_ShouldSkipExistingPairsAndReportMissingEntities() throws Exception {
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long taskId = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        List<JsonNode> report = importBody(post("/api/imports/assignments")
+            .contentType("text/csv")
+            .content("""
+                userId,taskId
+                %d,%d
+                %d,%d
+                %d,-1
+                """.formatted(userId, taskId, userId, taskId, userId)));
+
+        assertEquals(2, report.size());
+        assertEquals(3, report.get(0).get("row").asLong());
+        assertEquals("TASK_NOT_FOUND", report.get(0).get("status").asText());
+        JsonNode summary = report.get(1);
+        assertEquals(1, summary.get("imported").asLong());
+        assertEquals(1, summary.get("skipped").asLong());
+        assertEquals(1, summary.get("failed").asLong());
+
+        mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(jsonPath("$.taskIds[0]").value(taskId));
+    }
+
+    @Test
+    void importTasks_ShouldReturn415_ForUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/imports/tasks")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<tasks/>"))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    private List<JsonNode> importBody(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(TimeUnit.MINUTES.toMillis(30), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.caching.JsonFragmentCache;
+import com.example.anydeskapi.caching.JsonFragmentSerializer;
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.dtos.PageResponseDto;
+import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.dtos.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonFragmentCacheTests {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final LocalDateTime V2 = V1.plusSeconds(1);
+
+    private CaffeineCache taskFragments;
+    private CaffeineCache userFragments;
+    private JsonFragmentCache fragmentCache;
+    private ObjectMapper objectMapper;
+    private final ObjectMapper plainMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @BeforeEach
+    void setUp() {
+        taskFragments = new CaffeineCache(CacheConfig.TASK_FRAGMENTS_CACHE, Caffeine.newBuilder().recordStats().build());
+        userFragments = new CaffeineCache(CacheConfig.USER_FRAGMENTS_CACHE, Caffeine.newBuilder().recordStats().build());
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(taskFragments, userFragments));
+        cacheManager.afterPropertiesSet();
+        fragmentCache = new JsonFragmentCache(cacheManager);
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(JsonFragmentSerializer.module(fragmentCache))
+            .build();
+    }
+
+    @Test
+    void serialize_ShouldMatchPlainJackson() throws Exception {
+        PageResponseDto<TaskResponseDto> page = PageResponseDto.of(new PageImpl<>(List.of(
+            new TaskResponseDto(1L, "Task \"1\"", "Déjà vu", List.of(7L, 8L), V1),
+            new TaskResponseDto(2L, "Task 2", null, null, V1)), PageRequest.of(0, 2), 2));
+
+        String expected = plainMapper.writeValueAsString(page);
+        assertEquals(expected, objectMapper.writeValueAsString(page));
+        assertEquals(expected, new String(objectMapper.writeValueAsBytes(page), StandardCharsets.UTF_8));
+        assertEquals(2, taskFragments.getNativeCache().estimatedSize());
+    }
+
+    @Test
+    void serialize_ShouldReuseFragmentUntilVersionChanges() throws Exception {
+        UserResponseDto user = new UserResponseDto(1L, "jon", "jon@example.com", List.of(), V1);
+        objectMapper.writeValueAsBytes(user);
+
+        user.setUsername("renamed");
+        assertEquals("jon", objectMapper.readTree(objectMapper.writeValueAsBytes(user)).get("username").asText());
+        assertEquals(1, userFragments.getNativeCache().stats().hitCount());
+
+        user.setUpdatedAt(V2);
+        assertEquals("renamed", objectMapper.readTree(objectMapper.writeValueAsBytes(user)).get("username").asText());
+
+        user.setUpdatedAt(V1);
+        user.setUsername("older");
+        assertEquals("older", objectMapper.readTree(objectMapper.writeValueAsBytes(user)).get("username").asText());
+        assertEquals("renamed", objectMapper.readTree(objectMapper.writeValueAsBytes(
+            new UserResponseDto(1L, "ignored", "jon@example.com", List.of(), V2))).get("username").asText());
+    }
+
+    @Test
+    void serialize_ShouldBypassCacheForUnversionedAndBinaryOutput() throws Exception {
+        TaskResponseDto exported = new TaskResponseDto(1L, "Task 1", "Desc", List.of(), null);
+        assertEquals(plainMapper.writeValueAsString(exported), objectMapper.writeValueAsString(exported));
+
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json()
+            .factory(new CBORFactory())
+            .modulesToInstall(JsonFragmentSerializer.module(fragmentCache))
+            .build();
+        TaskResponseDto task = new TaskResponseDto(2L, "Task 2", "Desc", List.of(3L), V1);
+        assertEquals("Task 2", new CBORMapper().readTree(cborMapper.writeValueAsBytes(task)).get("title").asText());
+        assertEquals(0, taskFragments.getNativeCache().estimatedSize());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.anydeskapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exports a few million generated rows through a real server. It runs only with the small-heap profile, in its own
+ * surefire execution with a 96 MB heap, against a file-backed database, so the test only passes if neither the rows
+ * nor the body are held in memory.
+ */
+@Tag("small-heap")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:file:./target/small-heap/export;CACHE_SIZE=4096",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "anydesk.search.ngram.enabled=false",
+    "anydesk.logging.request.enabled=false"
+})
+class LargeExportIntegrationTests {
+    private static final int TASKS = 2_000_000;
+    private static final int ASSIGNED_TASKS = 100_000;
+    private static final int INSERT_BATCH = 100_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void generateFixture() {
+        jdbcTemplate.update("delete from user_tasks");
+        jdbcTemplate.update("delete from tasks");
+        jdbcTemplate.update("delete from users");
+        jdbcTemplate.update("""
+            insert into users (id, username, email, email_key, created_at, updated_at)
+            select x, 'user' || x, 'user' || x || '@example.com', 'user' || x || '@example.com', localtimestamp, localtimestamp
+            from system_range(1, 10)
+            """);
+        for (int from = 1; from <= TASKS; from += INSERT_BATCH) {
+            jdbcTemplate.update("""
+                insert into tasks (id, title, title_key, description, created_at, updated_at)
+                select x, 'Task ' || x, 'task ' || x, 'Generated task number ' || x, localtimestamp, localtimestamp
+                from system_range(?, ?)
+                """, from, from + INSERT_BATCH - 1);
+        }
+        jdbcTemplate.update("insert into user_tasks (user_id, task_id) select mod(x, 10) + 1, x from system_range(1, ?)",
+            ASSIGNED_TASKS);
+    }
+
+    @Test
+    void exportTasks_ShouldStreamMillionsOfRowsWithinSmallHeap() throws Exception {
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/export")).build(),
+            HttpResponse.BodyHandlers.ofInputStream());
+
+        assertEquals(200, response.statusCode());
+        long lines = 0;
+        try (InputStream body = new BufferedInputStream(response.body())) {
+            int next;
+            while ((next = body.read()) != -1) {
+                if (next == '\n') {
+                    lines++;
+                }
+            }
+        }
+        assertEquals(TASKS, lines);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.caching.ListResultCache;
+import com.example.anydeskapi.configs.CacheConfig;
+import com.example.anydeskapi.data.routing.PrimaryReads;
+import com.example.anydeskapi.events.AssignmentChangedEvent;
+import com.example.anydeskapi.events.ChangeType;
+import com.example.anydeskapi.events.TaskChangedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListResultCacheTests {
+
+    private static ListResultCache newCache(boolean staleWhileRevalidate) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache(CacheConfig.PAGES_CACHE, Caffeine.newBuilder().build())));
+        cacheManager.afterPropertiesSet();
+        return new ListResultCache(cacheManager, staleWhileRevalidate, new PrimaryReads());
+    }
+
+    @Test
+    void get_ShouldReuseResultUntilVersionChanges() {
+        ListResultCache cache = newCache(false);
+        AtomicInteger loads = new AtomicInteger();
+        List<Object> params = ListResultCache.params(0, 10, null, "x");
+
+        assertEquals(1, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+        assertEquals(1, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED, null, null));
+
+        assertEquals(2, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldKeepUserPagesWhenOnlyTasksChange() {
+        ListResultCache cache = newCache(false);
+        AtomicInteger loads = new AtomicInteger();
+        List<Object> params = ListResultCache.params(0, 10, null, null);
+
+        cache.get(ListResultCache.USERS, params, loads::incrementAndGet);
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.DELETED, null, null));
+        cache.get(ListResultCache.USERS, params, loads::incrementAndGet);
+        assertEquals(1, loads.get());
+
+        cache.onAssignmentChanged(new AssignmentChangedEvent(ChangeType.CREATED, 1L, 2L, null));
+        cache.get(ListResultCache.USERS, params, loads::incrementAndGet);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldServeStaleResultAndRefreshInBackground() throws InterruptedException {
+        ListResultCache cache = newCache(true);
+        AtomicInteger loads = new AtomicInteger();
+        List<Object> params = ListResultCache.params(1, 5, "a", null);
+
+        assertEquals(1, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.UPDATED, null, null));
+
+        assertEquals(1, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+        for (int i = 0; i < 100 && loads.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(20);
+        assertEquals(2, cache.get(ListResultCache.TASKS, params, loads::incrementAndGet));
+        cache.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.anydeskapi;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void health_ShouldReportDatasourceBackedReadiness() throws Exception {
+        mockMvc.perform(get("/health"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.db.status").value("UP"));
+    }
+
+    @Test
+    void prometheus_ShouldExposeEndpointServiceJpaAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(allOf(
+                containsString("http_server_requests_seconds_bucket{"),
+                containsString("uri=\"/api/tasks\""),
+                containsString("anydesk_service_seconds_bucket{"),
+                containsString("method=\"getAllTasks\""),
+                containsString("hibernate_query_executions_total"),
+                containsString("hibernate_entities_loads_total"),
+                containsString("hibernate_cache_query_requests_total"),
+                containsString("hikaricp_connections_active"),
+                containsString("hikaricp_connections_pending"),
+                containsString("cache_gets_total{"))));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.ReactiveReadRepository;
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.example.anydeskapi.TaskControllerIntegrationTests.extractIdFromJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveReadControllerIntegrationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ReactiveReadRepository reactiveReadRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void getTasks_ShouldApplySameFiltersAndShapeAsMvcEndpoint() throws Exception {
+        long taskA = createTask("Fix Login", "Auth bug");
+        createTask("Write docs", "Manual");
+        long userId = createUser("Jon", "jon@example.com");
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskA));
+
+        perform(get("/api/reactive/tasks?title=LOGIN"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(taskA))
+            .andExpect(jsonPath("$[0].assignedUserIds[0]").value(userId));
+
+        perform(get("/api/reactive/users?email=example"))
+            .andExpect(jsonPath("$[0].taskIds[0]").value(taskA));
+    }
+
+    @Test
+    void getTasks_ShouldStreamNdjsonInIdOrder() throws Exception {
+        long first = createTask("Task A", "One");
+        long second = createTask("Task B", "Two");
+
+        String body = perform(get("/api/reactive/tasks").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\\n");
+        assertEquals(2, lines.length);
+        assertEquals(first, extractIdFromJson(lines[0]));
+        assertEquals(second, extractIdFromJson(lines[1]));
+    }
+
+    @Test
+    void getById_ShouldReturn404_WhenMissing() throws Exception {
+        long userId = createUser("Jon", "jon@example.com");
+
+        perform(get("/api/reactive/users/" + userId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.username").value("Jon"))
+            .andExpect(jsonPath("$.taskIds.length()").value(0));
+        perform(get("/api/reactive/tasks/999999"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Task not found"));
+    }
+
+    @Test
+    void findById_ShouldCarryUpdatedAt() throws Exception {
+        long taskId = createTask("Task A", "One");
+        long userId = createUser("Jon", "jon@example.com");
+
+        assertEquals(taskRepository.findById(taskId).orElseThrow().getUpdatedAt(),
+            reactiveReadRepository.findTaskById(taskId).block().getUpdatedAt());
+        assertEquals(userRepository.findById(userId).orElseThrow().getUpdatedAt(),
+            reactiveReadRepository.findUserById(userId).block().getUpdatedAt());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private long createTask(String title, String description) throws Exception {
+        return extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"%s\", \"description\": \"%s\" }".formatted(title, description)))
+            .andReturn().getResponse().getContentAsString());
+    }
+
+    private long createUser(String username, String email) throws Exception {
+        return extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"%s\", \"email\": \"%s\" }".formatted(username, email)))
+            .andReturn().getResponse().getContentAsString());
+    }
+}
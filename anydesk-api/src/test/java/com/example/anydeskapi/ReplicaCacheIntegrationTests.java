@@ -0,0 +1,84 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.routing.ReplicaSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.SQLException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Replica routing with the list page cache on: pages are cached for every later reader, so they must not be filled
+ * from a replica that has not caught up yet.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReplicaCacheIntegrationTests.PRIMARY_URL,
+    "anydesk.replicas.enabled=true",
+    "anydesk.replicas.urls=" + ReplicaCacheIntegrationTests.REPLICA_URL,
+    "anydesk.replicas.health-check-interval=1h"
+})
+@AutoConfigureMockMvc
+class ReplicaCacheIntegrationTests {
+    static final String PRIMARY_URL = "jdbc:h2:mem:cache-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:cache-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+        ReplicaRoutingIntegrationTests.replicate(PRIMARY_URL, REPLICA_URL);
+        replicaSet.checkHealth();
+    }
+
+    @Test
+    void getAllTasks_ShouldFillPageCacheFromPrimary_WhileReplicaLags() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1));
+
+        mockMvc.perform(get("/api/tasks/slice").param("title", "Task").param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.approximateTotal").value(1));
+    }
+
+    @Test
+    void readiness_ShouldReportReplicaState() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.replicas.details.replica-1").value("UP"));
+
+        replicaSet.markDown("replica-1");
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.components.replicas.status").value("UP"))
+            .andExpect(jsonPath("$.components.replicas.details.replica-1").value("DOWN"))
+            .andExpect(jsonPath("$.components.replicas.details.reads").value("primary"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.routing.ReplicaSet;
+import com.example.anydeskapi.filters.ReadYourWritesFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReplicaRoutingIntegrationTests.PRIMARY_URL,
+    "anydesk.replicas.enabled=true",
+    "anydesk.replicas.urls=" + ReplicaRoutingIntegrationTests.REPLICA_URL,
+    "anydesk.replicas.health-check-interval=1h",
+    "anydesk.cache.tasks.enabled=false",
+    "anydesk.cache.pages.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTests {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+        replicate();
+        replicaSet.checkHealth();
+    }
+
+    @Test
+    void readOnlyRequests_ShouldBeServedByReplica_UntilItCatchesUp() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0));
+
+        replicate();
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Task A"));
+    }
+
+    @Test
+    void readYourWritesHeader_ShouldReadFromPrimary() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks").header(ReadYourWritesFilter.HEADER, "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
+    @Test
+    void readOnlyRequests_ShouldFallBackToPrimary_WhenReplicaIsDown() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated());
+
+        replicaSet.markDown("replica-1");
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1));
+
+        replicaSet.checkHealth();
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    private static void replicate() throws SQLException {
+        replicate(PRIMARY_URL, REPLICA_URL);
+    }
+
+    // Stands in for streaming replication by copying the primary's schema and rows into the replica.
+    static void replicate(String primaryUrl, String replicaUrl) throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(primaryUrl, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT")) {
+            while (rows.next()) {
+                script.add(rows.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(replicaUrl, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
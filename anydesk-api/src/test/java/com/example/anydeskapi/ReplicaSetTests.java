@@ -0,0 +1,71 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.data.routing.ReplicaSet;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaSetTests {
+
+    private static DataSource replica(boolean valid) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(valid);
+        return dataSource;
+    }
+
+    @Test
+    void nextHealthy_ShouldReturnNull_UntilFirstHealthCheck() throws SQLException {
+        ReplicaSet replicaSet = new ReplicaSet(Map.of("replica-1", replica(true)), Duration.ofSeconds(1));
+
+        assertNull(replicaSet.nextHealthy());
+
+        replicaSet.checkHealth();
+
+        assertEquals("replica-1", replicaSet.nextHealthy());
+    }
+
+    @Test
+    void nextHealthy_ShouldRoundRobinAndSkipUnhealthyReplicas() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica(true));
+        replicas.put("replica-2", replica(true));
+        replicas.put("replica-3", replica(false));
+        ReplicaSet replicaSet = new ReplicaSet(replicas, Duration.ofSeconds(1));
+        replicaSet.checkHealth();
+
+        assertEquals("replica-1", replicaSet.nextHealthy());
+        assertEquals("replica-2", replicaSet.nextHealthy());
+        assertEquals("replica-1", replicaSet.nextHealthy());
+        assertEquals(Map.of("replica-1", true, "replica-2", true, "replica-3", false), replicaSet.health());
+
+        replicaSet.markDown("replica-1");
+
+        assertEquals("replica-2", replicaSet.nextHealthy());
+        assertEquals("replica-2", replicaSet.nextHealthy());
+
+        replicaSet.markDown("replica-2");
+
+        assertNull(replicaSet.nextHealthy());
+    }
+
+    @Test
+    void checkHealth_ShouldMarkReplicaDown_WhenConnectionFails() throws SQLException {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaSet replicaSet = new ReplicaSet(Map.of("replica-1", failing), Duration.ofSeconds(1));
+
+        replicaSet.checkHealth();
+
+        assertNull(replicaSet.nextHealthy());
+    }
+}
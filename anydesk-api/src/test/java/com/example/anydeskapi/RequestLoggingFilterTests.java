@@ -0,0 +1,77 @@
+package com.example.anydeskapi;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.anydeskapi.data.statistics.StatementCounter;
+import com.example.anydeskapi.filters.RequestLoggingFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestLoggingFilterTests {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        StatementCounter.stop();
+    }
+
+    @Test
+    void doFilter_ShouldLogOneRecordPerSampledRequest() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(1.0, Duration.ofSeconds(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+
+        StatementCounter.start();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1, appender.list.size());
+        Map<String, Object> fields = appender.list.get(0).getKeyValuePairs().stream()
+            .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertEquals("GET", fields.get("method"));
+        assertEquals("/api/tasks/{id}", fields.get("uri"));
+        assertEquals(200, fields.get("status"));
+        assertEquals(0, fields.get("sqlStatements"));
+        assertTrue(fields.containsKey("durationMs"));
+    }
+
+    @Test
+    void doFilter_ShouldSkipUnsampledSuccessesButAlwaysLogErrorsAndSlowRequests() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0, Duration.ofSeconds(10));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), new MockFilterChain());
+        assertTrue(appender.list.isEmpty());
+
+        MockHttpServletResponse notFound = new MockHttpServletResponse();
+        notFound.setStatus(404);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/99"), notFound, new MockFilterChain());
+        assertEquals(1, appender.list.size());
+
+        RequestLoggingFilter slowFilter = new RequestLoggingFilter(0.0, Duration.ZERO);
+        slowFilter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(), new MockFilterChain());
+        assertEquals(2, appender.list.size());
+        assertEquals("WARN", appender.list.get(1).getLevel().toString());
+    }
+}
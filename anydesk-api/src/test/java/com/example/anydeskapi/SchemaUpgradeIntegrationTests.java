@@ -0,0 +1,105 @@
+package com.example.anydeskapi;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Starts the application on a database laid out by the baseline version: identity ids, no key columns,
+ * and rows already in place. The users sequence already exists but was never moved past those rows.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SchemaUpgradeIntegrationTests {
+    private static final String LEGACY_URL = "jdbc:h2:mem:legacy-schema;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(LEGACY_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            statement.execute("""
+                create table tasks (
+                    id bigint generated by default as identity primary key,
+                    title varchar(255), description varchar(255), created_at timestamp(6), updated_at timestamp(6))
+                """);
+            statement.execute("""
+                create table users (
+                    id bigint generated by default as identity primary key,
+                    username varchar(255), email varchar(255), created_at timestamp(6), updated_at timestamp(6))
+                """);
+            statement.execute("create table user_tasks (user_id bigint not null, task_id bigint not null)");
+            statement.execute("""
+                insert into tasks (title, description, created_at, updated_at) values
+                    ('Legacy task', 'Desc', localtimestamp, localtimestamp),
+                    ('Second legacy task', 'Desc', localtimestamp, localtimestamp),
+                    ('Third legacy task', 'Desc', localtimestamp, localtimestamp)
+                """);
+            statement.execute("""
+                insert into users (username, email, created_at, updated_at) values
+                    ('legacy', 'Legacy@Example.com', localtimestamp, localtimestamp),
+                    ('second', 'second@example.com', localtimestamp, localtimestamp)
+                """);
+            // Left behind by a deploy of the sequence ids that ran without the upgrade.
+            statement.execute("create sequence users_seq start with 1 increment by 50");
+        }
+        registry.add("spring.datasource.url", () -> LEGACY_URL);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+    }
+
+    @Test
+    void upgrade_ShouldBackfillKeysOfExistingRows() throws Exception {
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tasks where title_key is null", Long.class));
+        assertEquals("NO", jdbcTemplate.queryForObject(
+            "select is_nullable from information_schema.columns where table_name = 'TASKS' and column_name = 'TITLE_KEY'",
+            String.class));
+        assertEquals("NO", jdbcTemplate.queryForObject(
+            "select is_nullable from information_schema.columns where table_name = 'USERS' and column_name = 'EMAIL_KEY'",
+            String.class));
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"LEGACY TASK\", \"description\": \"Desc\" }"))
+            .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"copy\", \"email\": \"legacy@example.com\" }"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void upgrade_ShouldStartSequencesAfterExistingIds() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"New task\", \"description\": \"Desc\" }"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(greaterThan(3)));
+        mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"new\", \"email\": \"new@example.com\" }"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(greaterThan(2)));
+    }
+}
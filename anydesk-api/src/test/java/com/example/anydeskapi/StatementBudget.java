@@ -0,0 +1,23 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.filters.StatementCountingFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    static ResultMatcher atMost(int statements) {
+        return result -> {
+            String header = result.getResponse().getHeader(StatementCountingFilter.STATEMENTS_HEADER);
+            assertNotNull(header, "Response has no " + StatementCountingFilter.STATEMENTS_HEADER + " header");
+            int executed = Integer.parseInt(header);
+            assertTrue(executed <= statements, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                + " executed " + executed + " SQL statements, over the budget of " + statements);
+        };
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.anydeskapi;
 
+import com.example.anydeskapi.caching.EntityCounters;
+import com.example.anydeskapi.data.entities.TaskEntity;
 import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.filters.StatementCountingFilter;
+import com.example.anydeskapi.search.TaskSearchIndex;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +16,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,9 +45,23 @@ class TaskControllerIntegrationTests {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityCounters entityCounters;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
     @BeforeEach
     void setUp() {
+        userRepository.deleteAll();
         taskRepository.deleteAll();
+        entityCounters.reconcile();
     }
 
     @Test
@@ -63,6 +98,288 @@ class TaskControllerIntegrationTests {
             .andExpect(jsonPath("$.content.length()").value(2));
     }
 
+    @Test
+    void getAllTasks_ShouldEncodeCbor_WhenAccepted() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{ \"title\": \"Task 1\", \"description\": \"Desc 1\" }"));
+
+        byte[] body = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().stringValues("Vary", hasItem("Accept")))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new CBORMapper().readTree(body);
+        assertEquals("content", page.fieldNames().next());
+        assertEquals(1, page.get("totalElements").asLong());
+        assertEquals("Task 1", page.get("content").get(0).get("title").asText());
+    }
+
+    @Test
+    void getTaskById_ShouldSendWeakETag_SharedByEncodings() throws Exception {
+        long id = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task 1\", \"description\": \"Desc 1\" }"))
+            .andReturn().getResponse().getContentAsString());
+
+        String etag = mockMvc.perform(get("/api/tasks/" + id))
+            .andExpect(header().string("ETag", startsWith("W/")))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/" + id).accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", etag))
+            .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+
+    @Test
+    void getAllTasks_ShouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/tasks").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.number").value(0))
+            .andExpect(jsonPath("$.totalPages").value(0));
+    }
+
+    @Test
+    void getAllTasks_ShouldFilterByTitleSubstring() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Write report", "description": "Quarterly" }
+            """));
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Review code", "description": "Backend" }
+            """));
+
+        mockMvc.perform(get("/api/tasks").param("title", "REPO"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Write report"));
+
+        mockMvc.perform(get("/api/tasks").param("title", "xyz"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    void taskSearchIndex_ShouldFindRowsWrittenElsewhere_AfterRebuild() {
+        TaskEntity task = new TaskEntity();
+        task.setTitle("Imported elsewhere");
+        task.setDescription("Written without events");
+        Long id = taskRepository.save(task).getId();
+
+        assertEquals(Optional.of(List.of()), taskSearchIndex.findCandidateIds("elsewhere", null));
+
+        taskSearchIndex.rebuild();
+
+        assertEquals(Optional.of(List.of(id)), taskSearchIndex.findCandidateIds("elsewhere", null));
+    }
+
+    @Test
+    void getTasksByCursor_ShouldWalkAllPages() throws Exception {
+        for (String title : new String[]{"Task 1", "Task 2", "Task 3"}) {
+            mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"" + title + "\", \"description\": \"Desc\" }"));
+        }
+
+        String firstPage = mockMvc.perform(get("/api/tasks/cursor").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].title").value("Task 1"))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String cursor = new ObjectMapper().readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/tasks/cursor").param("limit", "2").param("after", cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Task 3"))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getTasksByCursor_ShouldReturn400_WhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/tasks/cursor").param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid cursor."));
+    }
+
+    @Test
+    void getTasksSlice_ShouldReportHasNextWithoutCounting() throws Exception {
+        for (String title : new String[]{"Task 1", "Task 2", "Task 3"}) {
+            mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"" + title + "\", \"description\": \"Desc\" }"));
+        }
+
+        mockMvc.perform(get("/api/tasks/slice").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].title").value("Task 1"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.approximateTotal").doesNotExist())
+            .andExpect(StatementBudget.atMost(2));
+
+        mockMvc.perform(get("/api/tasks/slice").param("size", "2").param("page", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Task 3"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getTasksSlice_ShouldIncludeApproximateTotal_WhenRequested() throws Exception {
+        for (String title : new String[]{"Alpha", "Beta", "Alphabet"}) {
+            mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"" + title + "\", \"description\": \"Desc\" }"));
+        }
+
+        mockMvc.perform(get("/api/tasks/slice").param("size", "1").param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.approximateTotal").value(3));
+
+        mockMvc.perform(get("/api/tasks/slice").param("title", "alpha").param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.approximateTotal").value(2));
+
+        long betaId = taskRepository.findAll().stream()
+            .filter(task -> task.getTitle().equals("Beta"))
+            .findFirst().orElseThrow().getId();
+        mockMvc.perform(delete("/api/tasks/" + betaId))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/slice").param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.approximateTotal").value(2))
+            .andExpect(StatementBudget.atMost(2));
+    }
+
+    @Test
+    void getTasksSlice_ShouldReturn400_WhenPageIsNegative() throws Exception {
+        mockMvc.perform(get("/api/tasks/slice").param("page", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTaskChanges_ShouldReturnOnlyChangesAndTombstonesSinceToken() throws Exception {
+        long taskA = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andReturn().getResponse().getContentAsString());
+        long taskB = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task B\", \"description\": \"Desc\" }"))
+            .andReturn().getResponse().getContentAsString());
+
+        JsonNode first = syncTasks(null, 1);
+        assertEquals(List.of(taskA), ids(first.get("changed")));
+        assertEquals(true, first.get("hasMore").asBoolean());
+        JsonNode second = syncTasks(first.get("nextToken").asText(), 1);
+        assertEquals(List.of(taskB), ids(second.get("changed")));
+        assertEquals(false, second.get("hasMore").asBoolean());
+        JsonNode idle = syncTasks(second.get("nextToken").asText(), 10);
+        assertEquals(0, idle.get("changed").size());
+        assertEquals(0, idle.get("deleted").size());
+
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"Jon\", \"email\": \"jon@example.com\" }"))
+            .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskB))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/" + taskA))
+            .andExpect(status().isNoContent());
+
+        JsonNode delta = syncTasks(idle.get("nextToken").asText(), 10);
+        assertEquals(List.of(taskB), ids(delta.get("changed")));
+        assertEquals(userId, delta.get("changed").get(0).get("assignedUserIds").get(0).asLong());
+        assertEquals(taskA, delta.get("deleted").get(0).asLong());
+        assertEquals(1, delta.get("deleted").size());
+        assertEquals(0, syncTasks(delta.get("nextToken").asText(), 10).get("deleted").size());
+    }
+
+    @Test
+    void getTaskChanges_ShouldNotSkipRows_FromTransactionsStillOpen() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> slow = CompletableFuture.supplyAsync(() ->
+            new TransactionTemplate(transactionManager).execute(status -> {
+                TaskEntity task = new TaskEntity();
+                task.setTitle("Slow");
+                task.setDescription("Committed late");
+                long id = taskRepository.saveAndFlush(task).getId();
+                written.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return id;
+            }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        long fast = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Fast\", \"description\": \"Desc\" }"))
+            .andReturn().getResponse().getContentAsString());
+
+        JsonNode first = syncTasks(null, 10);
+        assertEquals(0, first.get("changed").size());
+        release.countDown();
+        long slowId = slow.get(10, TimeUnit.SECONDS);
+
+        JsonNode second = syncTasks(first.get("nextToken").asText(), 10);
+        assertEquals(List.of(slowId, fast), ids(second.get("changed")));
+    }
+
+    @Test
+    void getTaskChanges_ShouldReturn400_WhenTokenIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid sync token."));
+    }
+
+    private JsonNode syncTasks(String since, int limit) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/tasks/changes").param("limit", String.valueOf(limit));
+        if (since != null) {
+            request.param("since", since);
+        }
+        return new ObjectMapper().readTree(mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+    }
+
+    private static List<Long> ids(JsonNode items) {
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+
+    @Test
+    void getTaskById_ShouldNotServeCachedJsonAfterUpdate() throws Exception {
+        long id = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Before\", \"description\": \"Desc\" }"))
+            .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(jsonPath("$.title").value("Before"));
+        mockMvc.perform(get("/api/tasks")).andExpect(jsonPath("$.content[0].title").value("Before"));
+
+        mockMvc.perform(put("/api/tasks/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"After\", \"description\": \"Desc\" }"))
+            .andExpect(jsonPath("$.title").value("After"));
+
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(jsonPath("$.title").value("After"));
+        mockMvc.perform(get("/api/tasks")).andExpect(jsonPath("$.content[0].title").value("After"));
+    }
+
     @Test
     void getTaskById_ShouldReturnTask_WhenExists() throws Exception {
         String response = mockMvc.perform(post("/api/tasks")
@@ -79,6 +396,81 @@ class TaskControllerIntegrationTests {
             .andExpect(jsonPath("$.title").value("Task A"));
     }
 
+    @Test
+    void getTaskById_ShouldReturn304_UntilTaskIsUpdated() throws Exception {
+        long id = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        String etag = mockMvc.perform(get("/api/tasks/" + id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/" + id).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(put("/api/tasks/" + id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Task A", "description": "Do that" }
+            """));
+
+        mockMvc.perform(get("/api/tasks/" + id).header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Do that"));
+    }
+
+    @Test
+    void getAllTasks_ShouldNotServeCachedPage_AfterWriteOutsideThisInstance() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Task A", "description": "Do this" }
+            """));
+        String etag = mockMvc.perform(get("/api/tasks"))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andReturn().getResponse().getHeader("ETag");
+
+        TaskEntity task = new TaskEntity();
+        task.setTitle("Task B");
+        task.setDescription("Written without events");
+        taskRepository.save(task);
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void getAllTasks_ShouldChangeETag_WhenOlderTaskIsDeleted() throws Exception {
+        long first = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Task B", "description": "Do that" }
+            """));
+        String etag = mockMvc.perform(get("/api/tasks"))
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(delete("/api/tasks/" + first))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
     @Test
     void updateTask_ShouldReturnUpdatedTask_WhenValid() throws Exception {
         String response = mockMvc.perform(post("/api/tasks")
@@ -154,6 +546,162 @@ class TaskControllerIntegrationTests {
             .andExpect(jsonPath("$.error").value("Task with this title already exists."));
     }
 
+    @Test
+    void createTask_ShouldReturn409_WhenTitleDiffersOnlyByCase() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                    { "title": "Duplicate", "description": "desc" }
+                """));
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "DUPLICATE", "description": "something else" }
+                """))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Task with this title already exists."));
+    }
+
+    @Test
+    void createTasks_ShouldReportPerItemResults() throws Exception {
+        mockMvc.perform(post("/api/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "title": "Existing", "description": "desc" }
+            """));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [
+                        { "title": "Batch 1", "description": "Desc" },
+                        { "title": "", "description": "Desc" },
+                        { "title": "batch 1", "description": "Desc" },
+                        { "title": "EXISTING", "description": "Desc" },
+                        { "title": "Batch 2", "description": "Desc" }
+                    ]
+                """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.failed").value(3))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[0].id").isNumber())
+            .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+            .andExpect(jsonPath("$.results[1].error").value("Task title cannot be empty."))
+            .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.results[3].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.results[4].status").value("CREATED"));
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    void createTasks_ShouldReturn400_WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTasks_ShouldStreamOneJsonLinePerTaskWithAssignments() throws Exception {
+        long taskA = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long taskB = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task B", "description": "Do that" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long user1 = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long user2 = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Ann", "email": "ann@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        mockMvc.perform(patch("/api/users/" + user2 + "/assign-task/" + taskA));
+        mockMvc.perform(patch("/api/users/" + user1 + "/assign-task/" + taskA));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertEquals(TimeUnit.MINUTES.toMillis(30), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode first = mapper.readTree(lines[0]);
+        JsonNode second = mapper.readTree(lines[1]);
+        assertEquals(taskA, first.get("id").asLong());
+        assertEquals(List.of(Math.min(user1, user2), Math.max(user1, user2)),
+            List.of(first.get("assignedUserIds").get(0).asLong(), first.get("assignedUserIds").get(1).asLong()));
+        assertEquals(taskB, second.get("id").asLong());
+        assertTrue(second.get("assignedUserIds").isNull());
+    }
+
+    @Test
+    void getAllTasks_ShouldStayWithinStatementBudget_RegardlessOfAssignmentCount() throws Exception {
+        StringBuilder tasks = new StringBuilder("[");
+        for (int i = 0; i < 20; i++) {
+            tasks.append(i == 0 ? "" : ",").append("{ \"title\": \"Task ").append(i).append("\", \"description\": \"Desc\" }");
+        }
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(tasks.append("]").toString()))
+            .andExpect(status().isOk());
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        List<Long> taskIds = taskRepository.findAll().stream().map(TaskEntity::getId).toList();
+        for (Long taskId : taskIds) {
+            mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId))
+                .andExpect(StatementBudget.atMost(5));
+        }
+
+        String etag = mockMvc.perform(get("/api/tasks?size=20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(20))
+            .andExpect(header().string(StatementCountingFilter.ROWS_HEADER, "42"))
+            .andExpect(StatementBudget.atMost(4))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks?size=20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(20))
+            .andExpect(StatementBudget.atMost(1));
+
+        mockMvc.perform(get("/api/tasks?size=20").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(StatementBudget.atMost(1));
+
+        mockMvc.perform(get("/api/tasks/" + taskIds.get(0)))
+            .andExpect(status().isOk())
+            .andExpect(StatementBudget.atMost(3));
+
+        mockMvc.perform(get("/api/tasks/cursor?limit=20"))
+            .andExpect(status().isOk())
+            .andExpect(StatementBudget.atMost(2));
+    }
+
     public static long extractIdFromJson(String json) throws Exception {
         ObjectMapper mapper = new ObjectMapper();
         JsonNode node = mapper.readTree(json);
@@ -1,16 +1,29 @@
 package com.example.anydeskapi;
 
+import com.example.anydeskapi.caching.EntityCounters;
+import com.example.anydeskapi.caching.ListResultCache;
+import com.example.anydeskapi.caching.VersionedDtoCache;
+import com.example.anydeskapi.configs.CacheConfig;
 import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.data.projections.EntityVersion;
 import com.example.anydeskapi.data.repositories.TaskRepository;
+import com.example.anydeskapi.data.routing.PrimaryReads;
 import com.example.anydeskapi.dtos.TaskRequestDto;
 import com.example.anydeskapi.dtos.TaskResponseDto;
+import com.example.anydeskapi.search.TaskSearchIndex;
 import com.example.anydeskapi.services.TaskServiceImpl;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,7 +37,13 @@ class TaskServiceImplTests {
     @BeforeEach
     void setUp() {
         taskRepository = mock(TaskRepository.class);
-        taskService = new TaskServiceImpl(taskRepository);
+        taskService = createService(new NoOpCacheManager());
+    }
+
+    private TaskServiceImpl createService(CacheManager cacheManager) {
+        return new TaskServiceImpl(taskRepository, mock(TaskSearchIndex.class),
+            new ListResultCache(cacheManager, false, new PrimaryReads()), new VersionedDtoCache(cacheManager), mock(EntityCounters.class),
+            mock(ApplicationEventPublisher.class), mock(Validator.class));
     }
 
     @Test
@@ -36,25 +55,35 @@ class TaskServiceImplTests {
         savedEntity.setTitle("Test Title");
         savedEntity.setDescription("Test Description");
 
-        when(taskRepository.findAll()).thenReturn(new ArrayList<>());
-        when(taskRepository.save(any(TaskEntity.class))).thenReturn(savedEntity);
+        when(taskRepository.existsByTitleKey("test title")).thenReturn(false);
+        when(taskRepository.saveAndFlush(any(TaskEntity.class))).thenReturn(savedEntity);
 
         TaskResponseDto result = taskService.createTask(dto);
 
         assertEquals("Test Title", result.getTitle());
-        verify(taskRepository).save(any(TaskEntity.class));
+        verify(taskRepository).saveAndFlush(any(TaskEntity.class));
     }
 
     @Test
     void createTask_ShouldThrow_WhenTitleExists() {
         TaskRequestDto dto = new TaskRequestDto("Test","Desc");
 
-        TaskEntity existing = new TaskEntity();
-        existing.setTitle("Test");
-
-        when(taskRepository.findAll()).thenReturn(List.of(existing));
+        when(taskRepository.existsByTitleKey("test")).thenReturn(true);
 
         assertThrows(ResponseStatusException.class, () -> taskService.createTask(dto));
+        verify(taskRepository, never()).saveAndFlush(any(TaskEntity.class));
+    }
+
+    @Test
+    void createTask_ShouldThrowConflict_WhenUniqueConstraintIsViolated() {
+        TaskRequestDto dto = new TaskRequestDto("Test", "Desc");
+
+        when(taskRepository.existsByTitleKey("test")).thenReturn(false);
+        when(taskRepository.saveAndFlush(any(TaskEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate title_key"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> taskService.createTask(dto));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
     }
 
     @Test
@@ -64,6 +93,7 @@ class TaskServiceImplTests {
         task.setTitle("T");
         task.setDescription("D");
 
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(new EntityVersion(1L, null)));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
         TaskResponseDto dto = taskService.getTaskById(1L);
@@ -72,7 +102,35 @@ class TaskServiceImplTests {
 
     @Test
     void getTaskById_ShouldThrow_WhenNotFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.empty());
         assertThrows(ResponseStatusException.class, () -> taskService.getTaskById(1L));
     }
+
+    @Test
+    void getTaskById_ShouldReload_WhenCachedEntryIsOlderThanTask() {
+        TaskServiceImpl cachingService = createService(new CaffeineCacheManager(CacheConfig.TASKS_CACHE));
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime updated = created.plusSeconds(1);
+        TaskEntity original = new TaskEntity();
+        original.setId(1L);
+        original.setTitle("Before");
+        original.setUpdatedAt(created);
+        TaskEntity changed = new TaskEntity();
+        changed.setId(1L);
+        changed.setTitle("After");
+        changed.setUpdatedAt(updated);
+
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(new EntityVersion(1L, created)));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(original));
+        assertEquals("Before", cachingService.getTaskById(1L).getTitle());
+        assertEquals("Before", cachingService.getTaskById(1L).getTitle());
+
+        // Changed elsewhere, without this instance seeing the event that would evict the entry.
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(new EntityVersion(1L, updated)));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(changed));
+        assertEquals("After", cachingService.getTaskById(1L).getTitle());
+        assertEquals("After", cachingService.getTaskById(1L).getTitle());
+
+        verify(taskRepository, times(2)).findById(1L);
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.anydeskapi;
+
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gives every test application context its own in-memory database. Contexts are cached and stay alive for the
+ * whole run, so with one shared database a context starting later would drop and recreate the schema and
+ * sequences that the earlier ones are still using.
+ */
+class TestDatabaseContextCustomizerFactory implements ContextCustomizerFactory {
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass, List<ContextConfigurationAttributes> configAttributes) {
+        return new UniqueDatabaseCustomizer();
+    }
+
+    // Equal for every test class, so the customizer does not split the context cache.
+    private static class UniqueDatabaseCustomizer implements ContextCustomizer {
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            TestPropertyValues.of("anydesk.test.database=testdb-" + DATABASES.incrementAndGet()).applyTo(context);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other != null && other.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
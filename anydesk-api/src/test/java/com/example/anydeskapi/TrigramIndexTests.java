@@ -0,0 +1,55 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.search.LongPostingList;
+import com.example.anydeskapi.search.TrigramIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTests {
+
+    @Test
+    void postingList_ShouldStaySortedAndUnique() {
+        LongPostingList list = new LongPostingList();
+        list.add(5);
+        list.add(1);
+        list.add(3);
+        list.add(3);
+
+        assertArrayEquals(new long[]{1, 3, 5}, list.toArray());
+        assertTrue(list.remove(3));
+        assertFalse(list.remove(3));
+        assertArrayEquals(new long[]{1, 5}, list.toArray());
+    }
+
+    @Test
+    void search_ShouldReturnDocumentsContainingAllTrigrams_IgnoringCase() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Write report");
+        index.add(2, "Review code");
+        index.add(3, "Report bug");
+
+        assertArrayEquals(new long[]{1, 3}, index.search("REPO"));
+        assertArrayEquals(new long[]{2}, index.search("view"));
+        assertArrayEquals(new long[0], index.search("xyz"));
+    }
+
+    @Test
+    void search_ShouldReturnNull_WhenQueryIsTooShort() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Write report");
+
+        assertNull(index.search("re"));
+    }
+
+    @Test
+    void remove_ShouldDropDocumentFromPostings() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Write report");
+        index.remove(1, "Write report");
+        index.add(1, "Review code");
+
+        assertArrayEquals(new long[0], index.search("report"));
+        assertArrayEquals(new long[]{1}, index.search("code"));
+    }
+}
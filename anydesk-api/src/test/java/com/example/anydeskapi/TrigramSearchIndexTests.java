@@ -0,0 +1,79 @@
+package com.example.anydeskapi;
+
+import com.example.anydeskapi.search.TrigramSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramSearchIndexTests {
+
+    private record Row(long id, String title) {
+    }
+
+    // Serves a single row and lets a test commit a change while a rebuild batch is in flight.
+    private static class RowIndex extends TrigramSearchIndex<Row, Row> {
+        final AtomicReference<Row> stored;
+        volatile Runnable afterLoad = () -> { };
+
+        RowIndex(Row row) {
+            super("Row", true, 1000, Duration.ZERO, Row::id, Row::title, Row::title, Row::id, Row::title, Row::title);
+            stored = new AtomicReference<>(row);
+        }
+
+        @Override
+        protected List<Row> loadBatch(Long afterId, int limit) {
+            List<Row> batch = afterId == null ? List.of(stored.get()) : List.of();
+            afterLoad.run();
+            return batch;
+        }
+
+        void commit(Row after) {
+            apply(stored.getAndSet(after), after);
+        }
+    }
+
+    @Test
+    void rebuild_ShouldKeepChange_CommittedAfterBatchWasRead() {
+        RowIndex index = new RowIndex(new Row(1, "alpha"));
+        index.rebuild();
+        index.afterLoad = () -> {
+            index.afterLoad = () -> { };
+            index.commit(new Row(1, "omega"));
+        };
+
+        index.rebuild();
+
+        assertEquals(Optional.of(List.of(1L)), index.findCandidateIds("omega", null));
+        assertEquals(Optional.of(List.of()), index.findCandidateIds("alpha", null));
+    }
+
+    // The swap itself cannot be paused from outside, so this races changes against back-to-back rebuilds and checks
+    // after every change that searches see it.
+    @Test
+    void apply_ShouldReachSearches_WhileRebuildsSwapTheIndex() throws Exception {
+        RowIndex index = new RowIndex(new Row(1, "alpha"));
+        index.rebuild();
+        CompletableFuture<Void> rebuilds = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 500; i++) {
+                index.rebuild();
+            }
+        });
+
+        for (int i = 0; !rebuilds.isDone(); i++) {
+            String title = i % 2 == 0 ? "omega" : "alpha";
+            String previous = i % 2 == 0 ? "alpha" : "omega";
+            index.commit(new Row(1, title));
+
+            assertEquals(Optional.of(List.of(1L)), index.findCandidateIds(title, null), "after change " + i);
+            assertEquals(Optional.of(List.of()), index.findCandidateIds(previous, null), "after change " + i);
+        }
+        rebuilds.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -1,16 +1,30 @@
 package com.example.anydeskapi;
 
+import com.example.anydeskapi.data.repositories.TaskRepository;
 import com.example.anydeskapi.data.repositories.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,9 +38,34 @@ class UserControllerIntegrationTests {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
+        taskRepository.deleteAll();
+    }
+
+    // assignTaskToUser answers 404 when the insert fails with this state, i.e. the task was deleted after its checks.
+    @Test
+    void insertAssignment_ShouldReportForeignKeyViolation_WhenTaskIsMissing() throws Exception {
+        long userId = TaskControllerIntegrationTests.extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"Jon\", \"email\": \"jon@example.com\" }"))
+            .andReturn().getResponse().getContentAsString());
+        long taskId = TaskControllerIntegrationTests.extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"title\": \"Task A\", \"description\": \"Desc\" }"))
+            .andReturn().getResponse().getContentAsString());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        DataIntegrityViolationException missing = assertThrows(DataIntegrityViolationException.class, () ->
+            transaction.executeWithoutResult(status -> userRepository.insertAssignment(userId, taskId + 1000)));
+        assertEquals("23506", ((SQLException) missing.getMostSpecificCause()).getSQLState());
     }
 
     @Test
@@ -80,6 +119,30 @@ class UserControllerIntegrationTests {
             .andExpect(jsonPath("$.email").value("Email format is invalid."));
     }
 
+    @Test
+    void getUserChanges_ShouldReportDeletedUsersAsTombstones() throws Exception {
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"Jon\", \"email\": \"jon@example.com\" }"))
+            .andReturn().getResponse().getContentAsString());
+
+        String body = mockMvc.perform(get("/api/users/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changed[0].id").value(userId))
+            .andExpect(jsonPath("$.deleted.length()").value(0))
+            .andReturn().getResponse().getContentAsString();
+        String token = new ObjectMapper().readTree(body).get("nextToken").asText();
+
+        mockMvc.perform(delete("/api/users/" + userId))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/users/changes").param("since", token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changed.length()").value(0))
+            .andExpect(jsonPath("$.deleted[0]").value(userId))
+            .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
     @Test
     void getAllUsers_ShouldReturnList() throws Exception {
         mockMvc.perform(post("/api/users")
@@ -98,6 +161,36 @@ class UserControllerIntegrationTests {
             .andExpect(jsonPath("$.content.length()").value(2));
     }
 
+    @Test
+    void getAllUsers_ShouldIncludeAssignedTaskIds() throws Exception {
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long taskId = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId))
+            .andExpect(status().isOk());
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Task is already assigned to the user."));
+
+        mockMvc.perform(get("/api/users"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].taskIds[0]").value(taskId));
+
+        mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].assignedUserIds[0]").value(userId));
+    }
+
     @Test
     void getUserById_ShouldReturnUser() throws Exception {
         String response = mockMvc.perform(post("/api/users")
@@ -114,6 +207,121 @@ class UserControllerIntegrationTests {
             .andExpect(jsonPath("$.username").value("Jon"));
     }
 
+    @Test
+    void getUserById_ShouldEncodeSmile_WhenAccepted() throws Exception {
+        long id = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{ \"username\": \"Jon\", \"email\": \"jon@example.com\" }"))
+            .andReturn().getResponse().getContentAsString());
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] body = mockMvc.perform(get("/api/users/" + id).accept(smile))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(smile))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode user = new SmileMapper().readTree(body);
+        assertEquals(id, user.get("id").asLong());
+        assertEquals("Jon", user.get("username").asText());
+    }
+
+    @Test
+    void getUserById_ShouldReflectAssignmentChanges() throws Exception {
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long taskId = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(jsonPath("$.taskIds.length()").value(0));
+        mockMvc.perform(get("/api/tasks/" + taskId))
+            .andExpect(jsonPath("$.assignedUserIds").doesNotExist());
+
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId));
+
+        mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(jsonPath("$.taskIds[0]").value(taskId));
+        mockMvc.perform(get("/api/tasks/" + taskId))
+            .andExpect(jsonPath("$.assignedUserIds[0]").value(userId));
+
+        mockMvc.perform(put("/api/users/" + userId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "username": "Jonathan", "email": "jon@example.com" }
+            """));
+
+        mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(jsonPath("$.username").value("Jonathan"));
+    }
+
+    @Test
+    void getUserById_ShouldReturn304_UntilAssignmentsChange() throws Exception {
+        long userId = extractIdFromJson(mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "username": "Jon", "email": "jon@example.com" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+        long taskId = extractIdFromJson(mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    { "title": "Task A", "description": "Do this" }
+                """))
+            .andReturn().getResponse().getContentAsString());
+
+        String etag = mockMvc.perform(get("/api/users/" + userId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("Last-Modified"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/users/" + userId).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/users/" + userId + "/assign-task/" + taskId));
+
+        mockMvc.perform(get("/api/users/" + userId).header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)))
+            .andExpect(jsonPath("$.taskIds[0]").value(taskId));
+    }
+
+    @Test
+    void getAllUsers_ShouldReturn304_UntilCollectionChanges() throws Exception {
+        mockMvc.perform(post("/api/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "username": "Jon", "email": "jon@example.com" }
+            """));
+
+        String etag = mockMvc.perform(get("/api/users?username=jo"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/users?username=jo").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/users?username=ja").header("If-None-Match", etag))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "username": "Joe", "email": "joe@example.com" }
+            """));
+
+        mockMvc.perform(get("/api/users?username=jo").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
     @Test
     void updateUser_ShouldReturnUpdatedUser() throws Exception {
         String response = mockMvc.perform(post("/api/users")
@@ -149,6 +357,73 @@ class UserControllerIntegrationTests {
             .andExpect(status().isNoContent());
     }
 
+    @Test
+    void createUsers_ShouldReportPerItemResults() throws Exception {
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [
+                        { "username": "Jon", "email": "jon@example.com" },
+                        { "username": "Jane", "email": "invalid" },
+                        { "username": "Jon 2", "email": "JON@example.com" }
+                    ]
+                """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+            .andExpect(jsonPath("$.results[1].error").value("Email format is invalid."))
+            .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"));
+    }
+
+    @Test
+    void exportUsers_ShouldGzipWhenAccepted() throws Exception {
+        mockMvc.perform(post("/api/users/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [
+                  { "username": "Jon", "email": "jon@example.com" },
+                  { "username": "Ann", "email": "ann@example.com" }
+                ]
+            """));
+
+        MvcResult result = mockMvc.perform(get("/api/users/export").header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Jon", new ObjectMapper().readTree(lines[0]).get("username").asText());
+        assertEquals("[]", new ObjectMapper().readTree(lines[1]).get("taskIds").toString());
+    }
+
+    @Test
+    void exportUsers_ShouldNotCompress_WhenGzipIsRefused() throws Exception {
+        mockMvc.perform(post("/api/users")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                { "username": "Jon", "email": "jon@example.com" }
+            """));
+
+        MvcResult result = mockMvc.perform(get("/api/users/export").header("Accept-Encoding", "gzip;q=0, identity"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String ndjson = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andReturn().getResponse().getContentAsString();
+
+        assertEquals("Jon", new ObjectMapper().readTree(ndjson.split("\n")[0]).get("username").asText());
+    }
+
     public static long extractIdFromJson(String json) throws Exception {
         ObjectMapper mapper = new ObjectMapper();
         JsonNode node = mapper.readTree(json);
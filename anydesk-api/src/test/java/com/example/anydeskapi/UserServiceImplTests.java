@@ -1,19 +1,26 @@
 package com.example.anydeskapi;
 
-import com.example.anydeskapi.data.entities.TaskEntity;
+import com.example.anydeskapi.caching.EntityCounters;
+import com.example.anydeskapi.caching.ListResultCache;
+import com.example.anydeskapi.caching.VersionedDtoCache;
 import com.example.anydeskapi.data.entities.UserEntity;
 import com.example.anydeskapi.data.repositories.TaskRepository;
 import com.example.anydeskapi.data.repositories.UserRepository;
+import com.example.anydeskapi.data.routing.PrimaryReads;
 import com.example.anydeskapi.dtos.UserRequestDto;
 import com.example.anydeskapi.dtos.UserResponseDto;
+import com.example.anydeskapi.search.UserSearchIndex;
 import com.example.anydeskapi.services.UserServiceImpl;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,7 +35,9 @@ class UserServiceImplTests {
     void setUp() {
         userRepository = mock(UserRepository.class);
         taskRepository = mock(TaskRepository.class);
-        userService = new UserServiceImpl(userRepository, taskRepository);
+        userService = new UserServiceImpl(userRepository, taskRepository, mock(UserSearchIndex.class),
+            new ListResultCache(new NoOpCacheManager(), false, new PrimaryReads()), new VersionedDtoCache(new NoOpCacheManager()),
+            mock(EntityCounters.class), mock(ApplicationEventPublisher.class), mock(Validator.class));
     }
 
     @Test
@@ -40,43 +49,84 @@ class UserServiceImplTests {
         user.setUsername("John");
         user.setEmail("john@example.com");
 
-        when(userRepository.findAll()).thenReturn(new ArrayList<>());
-        when(userRepository.save(any())).thenReturn(user);
+        when(userRepository.existsByEmailKey("john@example.com")).thenReturn(false);
+        when(userRepository.saveAndFlush(any())).thenReturn(user);
 
         UserResponseDto result = userService.createUser(dto);
 
         assertEquals("John", result.getUsername());
-        verify(userRepository).save(any());
+        verify(userRepository).saveAndFlush(any());
     }
 
     @Test
-    void assignTaskToUser_ShouldAssign_WhenValid() {
-        UserEntity user = new UserEntity();
-        user.setId(1L);
-        user.setTasks(new ArrayList<>());
+    void createUser_ShouldThrowConflict_WhenEmailDiffersOnlyByCase() {
+        UserRequestDto dto = new UserRequestDto("John", "John@Example.com");
 
-        TaskEntity task = new TaskEntity();
-        task.setId(2L);
+        when(userRepository.existsByEmailKey("john@example.com")).thenReturn(true);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> userService.createUser(dto));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        verify(userRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void assignTaskToUser_ShouldAssign_WhenValid() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.insertAssignment(1L, 2L)).thenReturn(1);
 
         userService.assignTaskToUser(1L, 2L);
-        assertTrue(user.getTasks().contains(task));
+        verify(userRepository).insertAssignment(1L, 2L);
     }
 
     @Test
     void assignTaskToUser_ShouldThrow_WhenAlreadyAssigned() {
-        TaskEntity task = new TaskEntity();
-        task.setId(2L);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.insertAssignment(1L, 2L)).thenReturn(0);
 
-        UserEntity user = new UserEntity();
-        user.setId(1L);
-        user.setTasks(new ArrayList<>(List.of(task)));
+        assertThrows(ResponseStatusException.class, () -> userService.assignTaskToUser(1L, 2L));
+    }
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+    @Test
+    void assignTaskToUser_ShouldThrow_WhenConcurrentAssignViolatesUniqueConstraint() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.insertAssignment(1L, 2L)).thenThrow(violation("23505"));
 
-        assertThrows(ResponseStatusException.class, () -> userService.assignTaskToUser(1L, 2L));
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> userService.assignTaskToUser(1L, 2L));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    void assignTaskToUser_ShouldReturn404_WhenTaskIsDeletedBeforeInsert() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.insertAssignment(1L, 2L)).thenThrow(violation("23506"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> userService.assignTaskToUser(1L, 2L));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+
+    @Test
+    void assignTaskToUser_ShouldRethrow_OtherIntegrityViolations() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.insertAssignment(1L, 2L)).thenThrow(violation("23502"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> userService.assignTaskToUser(1L, 2L));
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState) {
+        return new DataIntegrityViolationException("user_tasks", new SQLException("user_tasks", sqlState));
+    }
+
+    @Test
+    void removeTaskFromUser_ShouldThrow_WhenNotAssigned() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.existsById(2L)).thenReturn(true);
+        when(userRepository.deleteAssignment(1L, 2L)).thenReturn(0);
+
+        assertThrows(ResponseStatusException.class, () -> userService.removeTaskFromUser(1L, 2L));
     }
 }
@@ -1,4 +1,4 @@
-import { useState, useEffect } from 'react'
+import { useState, useEffect, useRef } from 'react'
 import UsersList from './components/UsersList'
 import TasksList from './components/TasksList'
 import AddUserForm from './components/AddUserForm'
@@ -17,6 +17,95 @@ function App() {
   const [actionSuccess, setActionSuccess] = useState(null)
   const [showAddUser, setShowAddUser] = useState(false);
   const [showAddTask, setShowAddTask] = useState(false);
+  const [live, setLive] = useState(false)
+  // Latest updatedAt applied per entity, and per entity's assignment list, so late events cannot undo newer ones.
+  const versions = useRef(new Map())
+
+  const refreshIfOffline = () => {
+    if (live) return
+    setUsersRefreshKey(k => k + 1)
+    setTasksRefreshKey(k => k + 1)
+  }
+
+  useEffect(() => {
+    const source = new EventSource(`${import.meta.env.VITE_API_URL}/api/changes`)
+    const merge = (list, item) => list.some(x => x.id === item.id)
+      ? list.map(x => x.id === item.id ? { ...x, ...item } : x)
+      : [...list, item]
+    // Events are published after commit, so concurrent commits can arrive out of order. LocalDateTime values are
+    // ISO-8601 strings in the server's zone, which compare in time order. Deletes are final.
+    const isOlder = (updatedAt, key) => {
+      const applied = versions.current.get(key)
+      return applied === 'DELETED' || (applied !== undefined && updatedAt !== null && updatedAt < applied)
+    }
+    const advance = (key, updatedAt) => {
+      if (updatedAt !== null) versions.current.set(key, updatedAt)
+    }
+    // Applies a task or user snapshot. One older than the last assignment event still carries newer fields,
+    // so only its assignment list is left alone.
+    const applySnapshot = (entity, listField, change) => {
+      const key = `${entity}:${change.id}`
+      if (change.type === 'DELETED') {
+        versions.current.set(key, 'DELETED')
+        return null
+      }
+      if (isOlder(change.updatedAt, key)) return undefined
+      advance(key, change.updatedAt)
+      if (isOlder(change.updatedAt, `${key}:${listField}`)) {
+        const { [listField]: _, ...rest } = change.data
+        return rest
+      }
+      advance(`${key}:${listField}`, change.updatedAt)
+      return change.data
+    }
+    const toggle = (ids, id, assigned) => assigned
+      ? [...new Set([...(ids || []), id])]
+      : (ids || []).filter(x => x !== id)
+
+    source.onopen = () => setLive(true)
+    source.onerror = () => setLive(false)
+    source.addEventListener('task', e => {
+      const change = JSON.parse(e.data)
+      const task = applySnapshot('task', 'assignedUserIds', change)
+      if (task === null) {
+        setTasks(prev => prev.filter(t => t.id !== change.id))
+        setSelectedTask(prev => prev && prev.id === change.id ? null : prev)
+      } else if (task) {
+        setTasks(prev => merge(prev, task))
+      }
+    })
+    source.addEventListener('user', e => {
+      const change = JSON.parse(e.data)
+      const user = applySnapshot('user', 'taskIds', change)
+      if (user === null) {
+        setUsers(prev => prev.filter(u => u.id !== change.id))
+        setSelectedUser(prev => prev && prev.id === change.id ? null : prev)
+      } else if (user) {
+        setUsers(prev => merge(prev, user))
+      }
+    })
+    source.addEventListener('assignment', e => {
+      const { type, updatedAt, data: { userId, taskId } } = JSON.parse(e.data)
+      const assigned = type === 'CREATED'
+      const userKey = `user:${userId}:taskIds`
+      const taskKey = `task:${taskId}:assignedUserIds`
+      if (!isOlder(updatedAt, userKey) && !isOlder(updatedAt, `user:${userId}`)) {
+        advance(userKey, updatedAt)
+        setUsers(prev => prev.map(u => u.id === userId ? { ...u, taskIds: toggle(u.taskIds, taskId, assigned) } : u))
+        setSelectedUser(prev => prev && prev.id === userId ? { ...prev, taskIds: toggle(prev.taskIds, taskId, assigned) } : prev)
+      }
+      if (!isOlder(updatedAt, taskKey) && !isOlder(updatedAt, `task:${taskId}`)) {
+        advance(taskKey, updatedAt)
+        setTasks(prev => prev.map(t => t.id === taskId ? { ...t, assignedUserIds: toggle(t.assignedUserIds, userId, assigned) } : t))
+      }
+    })
+    // Sent when changes were missed while disconnected and cannot be replayed.
+    source.addEventListener('reset', () => {
+      setUsersRefreshKey(k => k + 1)
+      setTasksRefreshKey(k => k + 1)
+    })
+    return () => source.close()
+  }, [])
 
   useEffect(() => {
     fetch(`${import.meta.env.VITE_API_URL}/api/users`)
@@ -55,8 +144,7 @@ function App() {
       const res = await fetch(`${import.meta.env.VITE_API_URL}/api/users/${user.id}/assign-task/${task.id}`, { method: 'PATCH' })
       if (!res.ok) throw new Error('Failed to assign task to user')
       setActionSuccess('Task assigned to user!')
-      setUsersRefreshKey(k => k + 1)
-      setTasksRefreshKey(k => k + 1)
+      refreshIfOffline()
       setSelectedUser(prev => prev && prev.id === user.id
         ? { ...prev, taskIds: [...(prev.taskIds || []), task.id] }
         : prev)
@@ -76,8 +164,7 @@ function App() {
       const res = await fetch(`${import.meta.env.VITE_API_URL}/api/users/${user.id}/remove-task/${task.id}`, { method: 'PATCH' })
       if (!res.ok) throw new Error('Failed to remove task from user')
       setActionSuccess('Task removed from user!')
-      setUsersRefreshKey(k => k + 1)
-      setTasksRefreshKey(k => k + 1)
+      refreshIfOffline()
       setSelectedUser(prev => prev && prev.id === user.id
         ? { ...prev, taskIds: (prev.taskIds || []).filter(id => id !== task.id) }
         : prev)
@@ -118,7 +205,7 @@ function App() {
             tasks={tasks}
             onSelect={handleUserSelect}
             selectedUserId={selectedUser?.id}
-            onUserUpdated={() => setUsersRefreshKey(k => k + 1)}
+            onUserUpdated={refreshIfOffline}
             onAddUser={() => setShowAddUser(true)}
           />
         </div>
@@ -128,7 +215,7 @@ function App() {
             users={users}
             onSelect={handleTaskSelect}
             selectedTaskId={selectedTask?.id}
-            onTaskUpdated={() => setTasksRefreshKey(k => k + 1)}
+            onTaskUpdated={refreshIfOffline}
             onAddTask={() => setShowAddTask(true)}
           />
         </div>
@@ -138,7 +225,7 @@ function App() {
           <div style={{background:'#fff', borderRadius:18, boxShadow:'0 8px 40px rgba(0,0,0,0.18)', border:'1.5px solid #e5e7eb', padding:'36px 32px 32px 32px', minWidth:340, maxWidth:400, position:'relative', display:'flex', flexDirection:'column', alignItems:'center'}}>
             <button onClick={()=>setShowAddUser(false)} style={{position:'absolute', top:6, right:8, width:28, height:28, padding:0, background:'none', border:'none', fontSize:22, cursor:'pointer', color:'#888', display:'flex', alignItems:'center', justifyContent:'center', borderRadius:'50%', lineHeight:1}}>&times;</button>
             <div style={{height: 18}} />
-            <AddUserForm onUserAdded={() => { setUsersRefreshKey(k => k + 1); setShowAddUser(false); }} noCard />
+            <AddUserForm onUserAdded={() => { refreshIfOffline(); setShowAddUser(false); }} noCard />
           </div>
         </div>
       )}
@@ -147,7 +234,7 @@ function App() {
           <div style={{background:'#fff', borderRadius:18, boxShadow:'0 8px 40px rgba(0,0,0,0.18)', border:'1.5px solid #e5e7eb', padding:'36px 32px 32px 32px', minWidth:340, maxWidth:400, position:'relative', display:'flex', flexDirection:'column', alignItems:'center'}}>
             <button onClick={()=>setShowAddTask(false)} style={{position:'absolute', top:6, right:8, width:28, height:28, padding:0, background:'none', border:'none', fontSize:22, cursor:'pointer', color:'#888', display:'flex', alignItems:'center', justifyContent:'center', borderRadius:'50%', lineHeight:1}}>&times;</button>
             <div style={{height: 18}} />
-            <AddTaskForm onTaskAdded={() => { setTasksRefreshKey(k => k + 1); setShowAddTask(false); }} noCard />
+            <AddTaskForm onTaskAdded={() => { refreshIfOffline(); setShowAddTask(false); }} noCard />
           </div>
         </div>
       )}